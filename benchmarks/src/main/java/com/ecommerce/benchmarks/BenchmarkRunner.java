@@ -0,0 +1,34 @@
+package com.ecommerce.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Execução para acompanhar regressões entre releases: todas as suítes (ou as que casarem com o
+ * filtro) com o profiler de GC e resultado em JSON, comparável com o arquivo da release anterior.
+ *
+ *   java -cp benchmarks/target/benchmarks.jar com.ecommerce.benchmarks.BenchmarkRunner [filtro] [arquivo.json]
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = "com.ecommerce.benchmarks.*";
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+        String resultFile = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.query.cache.CompactRedisSerializer;
+import com.ecommerce.order.query.dto.CachedOrderPage;
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode de uma página de 50 pedidos do cliente (ordersByCustomer) por serializer do Redis:
+ * JSON polimórfico (GenericJackson2JsonRedisSerializer com default typing), JSON tipado,
+ * Smile compacto e Smile compacto com LZ4. Bytes por valor em CacheValueSizeReport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+
+    static final String[] SERIALIZERS = {"generic-json", "json", "smile", "smile-lz4"};
+
+    @Param({"generic-json", "json", "smile", "smile-lz4"})
+    private String serializerId;
+
+    private RedisSerializer<Object> serializer;
+    private CachedOrderPage page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(serializerId);
+        page = customerPage(50);
+        encoded = serializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+
+    @SuppressWarnings("unchecked")
+    static RedisSerializer<Object> serializer(String id) {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return (RedisSerializer<Object>) switch (id) {
+            case "generic-json" -> new GenericJackson2JsonRedisSerializer(mapper.copy().activateDefaultTyping(
+                    BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                    ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY));
+            case "json" -> new Jackson2JsonRedisSerializer<>(mapper, CachedOrderPage.class);
+            case "smile" -> new CompactRedisSerializer<>(CachedOrderPage.class, 0);
+            case "smile-lz4" -> new CompactRedisSerializer<>(CachedOrderPage.class, 1024);
+            default -> throw new IllegalArgumentException("Unknown serializer: " + id);
+        };
+    }
+
+    static CachedOrderPage customerPage(int orders) {
+        List<OrderProjection> content = new ArrayList<>(orders);
+        Instant createdAt = Instant.parse("2024-03-07T10:15:30.123456Z");
+        for (int i = 0; i < orders; i++) {
+            List<OrderProjection.OrderItemProjection> items = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            for (int j = 0; j < 3; j++) {
+                BigDecimal unitPrice = new BigDecimal("19.90").add(BigDecimal.valueOf(j * 10L));
+                int quantity = 1 + (i + j) % 4;
+                BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+                items.add(OrderProjection.OrderItemProjection.builder()
+                        .productId("PROD-" + (100 + (i * 3 + j) % 40))
+                        .productName("Product " + (100 + (i * 3 + j) % 40))
+                        .quantity(quantity)
+                        .unitPrice(unitPrice)
+                        .subtotal(subtotal)
+                        .build());
+                total = total.add(subtotal);
+            }
+            Instant timestamp = createdAt.plusSeconds(i * 3600L);
+            content.add(OrderProjection.builder()
+                    .orderId(UUID.randomUUID())
+                    .customerId("CUST-123")
+                    .items(items)
+                    .totalAmount(total)
+                    .status(i % 3 == 0 ? "CONFIRMED" : "PENDING")
+                    .createdAt(timestamp)
+                    .updatedAt(timestamp)
+                    .version(1)
+                    .build());
+        }
+        return new CachedOrderPage(content, 230);
+    }
+}
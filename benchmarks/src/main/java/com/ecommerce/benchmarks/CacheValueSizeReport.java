@@ -0,0 +1,21 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.query.dto.CachedOrderPage;
+
+/**
+ * Bytes de uma página de 50 pedidos no Redis por serializer (o valor fica inteiro na memória do Redis).
+ *
+ * java -cp benchmarks/target/benchmarks.jar com.ecommerce.benchmarks.CacheValueSizeReport
+ */
+public class CacheValueSizeReport {
+
+    public static void main(String[] args) {
+        CachedOrderPage page = CacheValueCodecBenchmark.customerPage(50);
+        int genericSize = CacheValueCodecBenchmark.serializer("generic-json").serialize(page).length;
+        System.out.printf("%-14s %10s %14s%n", "serializer", "bytes", "vs generic-json");
+        for (String id : CacheValueCodecBenchmark.SERIALIZERS) {
+            int size = CacheValueCodecBenchmark.serializer(id).serialize(page).length;
+            System.out.printf("%-14s %10d %13.0f%%%n", id, size, 100.0 * size / genericSize);
+        }
+    }
+}
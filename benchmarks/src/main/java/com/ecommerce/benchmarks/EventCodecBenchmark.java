@@ -0,0 +1,81 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.shared.codec.EventCodec;
+import com.ecommerce.shared.codec.EventCodecs;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput de encode/decode do OrderCreatedEvent por codec.
+ * O tamanho do payload de cada codec é impresso por EventCodecSizeReport.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    @Param({"json", "smile", "cbor", "avro"})
+    private String codecId;
+
+    @Param({"1", "10", "500"})
+    private int itemsPerOrder;
+
+    private EventCodec codec;
+    private OrderCreatedEvent event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        codec = EventCodecs.forId(codecId);
+        event = createEvent(itemsPerOrder);
+        encoded = codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decode() {
+        return codec.decode(encoded, OrderCreatedEvent.class);
+    }
+
+    static OrderCreatedEvent createEvent(int itemsPerOrder) {
+        List<OrderCreatedEvent.OrderItem> items = new ArrayList<>(itemsPerOrder);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemsPerOrder; i++) {
+            BigDecimal unitPrice = new BigDecimal("19.90");
+            int quantity = 1 + i % 5;
+            BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            items.add(OrderCreatedEvent.OrderItem.builder()
+                    .productId("PROD-" + i)
+                    .productName("Product " + i)
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .subtotal(subtotal)
+                    .build());
+            total = total.add(subtotal);
+        }
+        return OrderCreatedEvent.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST-123")
+                .items(items)
+                .totalAmount(total)
+                .timestamp(Instant.now())
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(1)
+                .build();
+    }
+}
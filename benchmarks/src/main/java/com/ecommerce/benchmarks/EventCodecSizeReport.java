@@ -0,0 +1,27 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.shared.codec.EventCodecs;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+
+/**
+ * Tamanho do payload do OrderCreatedEvent por codec (bytes gravados no WAL/CDC/Kafka).
+ *
+ * java -cp benchmarks/target/benchmarks.jar com.ecommerce.benchmarks.EventCodecSizeReport
+ */
+public class EventCodecSizeReport {
+
+    private static final String[] CODECS = {"json", "smile", "cbor", "avro"};
+    private static final int[] ITEMS = {1, 10, 500};
+
+    public static void main(String[] args) {
+        System.out.printf("%-6s %10s %10s %10s%n", "items", "codec", "bytes", "vs json");
+        for (int items : ITEMS) {
+            OrderCreatedEvent event = EventCodecBenchmark.createEvent(items);
+            int jsonSize = EventCodecs.forId("json").encode(event).length;
+            for (String codec : CODECS) {
+                int size = EventCodecs.forId(codec).encode(event).length;
+                System.out.printf("%-6d %10s %10d %9.0f%%%n", items, codec, size, 100.0 * size / jsonSize);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Etapas isoladas da serialização do OrderCreated: mapeamento domínio -> evento externo
+ * (DomainEventMapper.toExternalEvent) e ida e volta em JSON pelo JsonUtil.
+ * O custo combinado por createOrder fica em EventSerializationBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMappingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemsPerOrder;
+
+    private OrderCreatedDomainEvent domainEvent;
+    private OrderCreatedEvent externalEvent;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(OrderItem.create("PROD-" + i, "Product " + i, 1 + i % 5, Money.of(new BigDecimal("19.90"))));
+        }
+
+        domainEvent = OrderCreatedDomainEvent.builder()
+                .aggregateId(UUID.randomUUID())
+                .customerId(new CustomerId("CUST-123"))
+                .items(items)
+                .totalAmount(Money.sum(items.stream().map(OrderItem::getSubtotal).toList()))
+                .timestamp(Instant.now())
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(1)
+                .build();
+        externalEvent = (OrderCreatedEvent) DomainEventMapper.toExternalEvent(domainEvent);
+        json = JsonUtil.toJson(externalEvent);
+    }
+
+    @Benchmark
+    public Object toExternalEvent() {
+        return DomainEventMapper.toExternalEvent(domainEvent);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtil.toJson(externalEvent);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent fromJson() {
+        return JsonUtil.fromJson(json, OrderCreatedEvent.class);
+    }
+}
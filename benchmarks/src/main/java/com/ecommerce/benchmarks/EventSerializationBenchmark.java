@@ -0,0 +1,72 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.mapper.SerializedEvent;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.domain.DomainEvent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de mapear + serializar o OrderCreated de um createOrder para Event Store e Outbox:
+ * duas vezes por evento (implementação anterior) contra uma vez via SerializedEvent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    @Param({"1", "10", "500"})
+    private int itemsPerOrder;
+
+    private DomainEvent event;
+
+    @Setup
+    public void setUp() {
+        List<OrderItem> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(OrderItem.create("PROD-" + i, "Product " + i, 1 + i % 5, Money.of(new BigDecimal("19.90"))));
+        }
+        Money total = items.stream()
+                .map(OrderItem::getSubtotal)
+                .reduce(Money.zero(), Money::add);
+
+        event = OrderCreatedDomainEvent.builder()
+                .aggregateId(UUID.randomUUID())
+                .customerId(new CustomerId("CUST-123"))
+                .items(items)
+                .totalAmount(total)
+                .timestamp(Instant.now())
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(1)
+                .build();
+    }
+
+    @Benchmark
+    public void serializeTwice(Blackhole blackhole) {
+        // Event Store
+        blackhole.consume(JsonUtil.toJson(DomainEventMapper.toExternalEvent(event)));
+        // Outbox
+        blackhole.consume(JsonUtil.toJson(DomainEventMapper.toExternalEvent(event)));
+    }
+
+    @Benchmark
+    public SerializedEvent serializeOnce() {
+        return DomainEventMapper.serialize(event);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.shared.security.JwtAuthenticationFilter;
+import com.ecommerce.shared.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da autenticação JWT com vários clientes ativos (tokens distintos em rodízio):
+ * caminho anterior (chave e parser recriados, 4 parses + HMAC por requisição), verificação única
+ * sem cache (jwt.cache.maximum-size=0) e verificação única com cache de tokens verificados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "ecommerce-cqrs-eventsourcing-super-secret-key-change-in-production-minimum-256-bits";
+
+    @Param({"1000"})
+    private int activeTokens;
+
+    private String[] tokens;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        JwtUtil uncached = new JwtUtil(SECRET, 3_600_000L, 0);
+        JwtUtil cached = new JwtUtil(SECRET, 3_600_000L, 10_000);
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = uncached.generateToken("user-" + i, Map.of("roles", List.of("ROLE_USER", "ROLE_ADMIN")));
+        }
+        uncachedFilter = new JwtAuthenticationFilter(uncached);
+        cachedFilter = new JwtAuthenticationFilter(cached);
+    }
+
+    @Benchmark
+    public Object legacyFourParses() {
+        String token = nextToken();
+        String username = legacyClaims(token).getSubject();
+        Claims validated = legacyClaims(token);
+        boolean valid = validated.getSubject().equals(username)
+                && !legacyClaims(token).getExpiration().before(new java.util.Date());
+        return valid ? legacyClaims(token).get("roles", List.class) : null;
+    }
+
+    @Benchmark
+    public Authentication filterSingleVerification() throws ServletException, IOException {
+        return authenticate(uncachedFilter);
+    }
+
+    @Benchmark
+    public Authentication filterCachedVerification() throws ServletException, IOException {
+        return authenticate(cachedFilter);
+    }
+
+    private Authentication authenticate(JwtAuthenticationFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader("Authorization", "Bearer " + nextToken());
+        FilterChain chain = new MockFilterChain();
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    // Como o JwtUtil fazia antes: chave e parser novos a cada chamada
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
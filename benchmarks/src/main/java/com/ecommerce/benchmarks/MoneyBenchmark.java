@@ -0,0 +1,81 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Total de um pedido com N itens. bigDecimalTotal reproduz a implementação anterior de Money
+ * (BigDecimal + setScale + validação a cada soma) como referência.
+ *
+ * Rodar com o profiler de GC para ver a alocação por operação (gc.alloc.rate.norm):
+ *   java -jar benchmarks/target/benchmarks.jar Money -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int items;
+
+    private List<Money> subtotals;
+    private BigDecimal[] amounts;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        subtotals = new ArrayList<>(items);
+        amounts = new BigDecimal[items];
+        quantities = new int[items];
+        for (int i = 0; i < items; i++) {
+            amounts[i] = new BigDecimal("19.90").add(BigDecimal.valueOf(i % 100, 2));
+            quantities[i] = 1 + i % 5;
+            subtotals.add(Money.of(amounts[i]).multiply(quantities[i]));
+        }
+    }
+
+    // Forma usada antes em Order.createOrder: um Money novo por item
+    @Benchmark
+    public Money reduceTotal() {
+        return subtotals.stream().reduce(Money.zero(), Money::add);
+    }
+
+    // Forma atual de Order.createOrder: soma em centavos, um único Money no final
+    @Benchmark
+    public Money sumTotal() {
+        return Money.sum(subtotals);
+    }
+
+    // Preço unitário x quantidade de cada item (construção dos OrderItem)
+    @Benchmark
+    public long itemSubtotals() {
+        long checksum = 0;
+        for (int i = 0; i < items; i++) {
+            checksum += Money.of(amounts[i]).multiply(quantities[i]).getMinorUnits();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        for (int i = 0; i < items; i++) {
+            BigDecimal subtotal = amounts[i].multiply(BigDecimal.valueOf(quantities[i])).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(subtotal);
+            if (total.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalStateException();
+            }
+            total = total.setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de escrita do agregado: construção dos OrderItem a partir do request e Order.createOrder
+ * (validação, total e evento OrderCreated). A aritmética de Money isolada fica em MoneyBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemsPerOrder;
+
+    private String[] productIds;
+    private String[] productNames;
+    private int[] quantities;
+    private BigDecimal[] unitPrices;
+
+    private CustomerId customerId;
+    private List<OrderItem> items;
+
+    @Setup
+    public void setUp() {
+        productIds = new String[itemsPerOrder];
+        productNames = new String[itemsPerOrder];
+        quantities = new int[itemsPerOrder];
+        unitPrices = new BigDecimal[itemsPerOrder];
+        for (int i = 0; i < itemsPerOrder; i++) {
+            productIds[i] = "PROD-" + i;
+            productNames[i] = "Product " + i;
+            quantities[i] = 1 + i % 5;
+            unitPrices[i] = new BigDecimal("19.90").add(BigDecimal.valueOf(i % 100, 2));
+        }
+        customerId = new CustomerId("CUST-123");
+        items = buildItems();
+    }
+
+    // Mesma conversão feita pelo OrderService a partir do OrderRequest
+    @Benchmark
+    public List<OrderItem> buildItems() {
+        List<OrderItem> built = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            built.add(OrderItem.create(productIds[i], productNames[i], quantities[i], Money.of(unitPrices[i])));
+        }
+        return built;
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return Order.createOrder(customerId, items, UUID.randomUUID(), UUID.randomUUID());
+    }
+}
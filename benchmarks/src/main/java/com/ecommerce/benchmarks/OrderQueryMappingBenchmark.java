@@ -0,0 +1,71 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.query.dto.OrderQueryResponse;
+import com.ecommerce.order.query.mapper.OrderProjectionMapper;
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lado de leitura: itens do OrderCreated -> projeção (OrderProjectionService, por evento consumido)
+ * e projeção -> resposta da API (OrderQueryController, por pedido retornado).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderQueryMappingBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemsPerOrder;
+
+    private List<OrderCreatedEvent.OrderItem> eventItems;
+    private OrderProjection projection;
+
+    @Setup
+    public void setUp() {
+        eventItems = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            BigDecimal unitPrice = new BigDecimal("19.90");
+            int quantity = 1 + i % 5;
+            eventItems.add(OrderCreatedEvent.OrderItem.builder()
+                    .productId("PROD-" + i)
+                    .productName("Product " + i)
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .subtotal(unitPrice.multiply(BigDecimal.valueOf(quantity)))
+                    .build());
+        }
+
+        Instant now = Instant.now();
+        projection = OrderProjection.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST-123")
+                .items(OrderProjectionMapper.toItemProjections(eventItems))
+                .totalAmount(eventItems.stream().map(OrderCreatedEvent.OrderItem::getSubtotal).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .status("PENDING")
+                .createdAt(now)
+                .updatedAt(now)
+                .version(1)
+                .build();
+    }
+
+    @Benchmark
+    public List<OrderProjection.OrderItemProjection> toItemProjections() {
+        return OrderProjectionMapper.toItemProjections(eventItems);
+    }
+
+    @Benchmark
+    public OrderQueryResponse toResponse() {
+        return OrderProjectionMapper.toResponse(projection);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.snapshot.OrderSnapshot;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.domain.DomainEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a reidratação do agregado Order a partir do histórico completo
+ * com a reidratação a partir do último snapshot + eventos posteriores.
+ *
+ * Ambos os cenários incluem a decodificação do JSON armazenado, como faz o OrderAggregateLoader.
+ * Enquanto só existe OrderCreated, o histórico sintético repete esse evento com versões crescentes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderRehydrationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int eventsPerAggregate;
+
+    @Param({"50"})
+    private int snapshotThreshold;
+
+    private List<StoredEvent> fullHistory;
+    private String snapshotData;
+    private List<StoredEvent> eventsAfterSnapshot;
+
+    private record StoredEvent(String eventType, String eventData) {
+    }
+
+    @Setup
+    public void setUp() {
+        UUID orderId = UUID.randomUUID();
+        List<OrderItem> items = List.of(
+                OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00"))),
+                OrderItem.create("PROD-002", "Mouse", 2, Money.of(new BigDecimal("50.00"))));
+
+        fullHistory = new ArrayList<>(eventsPerAggregate);
+        for (int version = 1; version <= eventsPerAggregate; version++) {
+            DomainEvent event = OrderCreatedDomainEvent.builder()
+                    .aggregateId(orderId)
+                    .customerId(new CustomerId("CUST-123"))
+                    .items(items)
+                    .totalAmount(Money.of(new BigDecimal("1600.00")))
+                    .timestamp(Instant.now())
+                    .correlationId(UUID.randomUUID())
+                    .causationId(UUID.randomUUID())
+                    .version(version)
+                    .build();
+            fullHistory.add(new StoredEvent(event.getEventType(),
+                    JsonUtil.toJson(DomainEventMapper.toExternalEvent(event))));
+        }
+
+        // Snapshot mais recente conforme o intervalo configurado
+        int snapshotVersion = (eventsPerAggregate / snapshotThreshold) * snapshotThreshold;
+        if (snapshotVersion == 0) {
+            snapshotData = null;
+            eventsAfterSnapshot = fullHistory;
+        } else {
+            Order atSnapshot = Order.fromHistory(decode(fullHistory.subList(0, snapshotVersion)));
+            snapshotData = JsonUtil.toJson(atSnapshot.toSnapshot());
+            eventsAfterSnapshot = fullHistory.subList(snapshotVersion, eventsPerAggregate);
+        }
+    }
+
+    @Benchmark
+    public Order replayFullHistory() {
+        return Order.fromHistory(decode(fullHistory));
+    }
+
+    @Benchmark
+    public Order loadFromSnapshot() {
+        if (snapshotData == null) {
+            return Order.fromHistory(decode(eventsAfterSnapshot));
+        }
+        OrderSnapshot snapshot = JsonUtil.fromJson(snapshotData, OrderSnapshot.class);
+        return Order.fromSnapshot(snapshot, decode(eventsAfterSnapshot));
+    }
+
+    private static List<DomainEvent> decode(List<StoredEvent> events) {
+        List<DomainEvent> decoded = new ArrayList<>(events.size());
+        for (StoredEvent event : events) {
+            decoded.add(DomainEventMapper.toDomainEvent(event.eventType(), event.eventData()));
+        }
+        return decoded;
+    }
+}
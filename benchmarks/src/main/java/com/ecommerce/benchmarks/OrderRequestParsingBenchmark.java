@@ -0,0 +1,86 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.command.config.OrderRequestProperties;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.service.OrderRequestReader;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo de POST /api/v1/orders até os value objects do domínio: binding em OrderRequest + @Valid +
+ * conversão (caminho anterior) contra a leitura em streaming do OrderRequestReader.
+ * Rodar com -prof gc e comparar gc.alloc.rate.norm (bytes por pedido).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderRequestParsingBenchmark {
+
+    @Param({"10", "5000"})
+    private int itemsPerOrder;
+
+    private byte[] body;
+    private ObjectReader requestReader;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private OrderRequestReader streamingReader;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"customerId\":\"CUST-123\",\"items\":[");
+        for (int i = 0; i < itemsPerOrder; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"productId\":\"PROD-").append(i)
+                    .append("\",\"productName\":\"Product ").append(i)
+                    .append("\",\"quantity\":").append(1 + i % 5)
+                    .append(",\"unitPrice\":19.90}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+        requestReader = objectMapper.readerFor(OrderRequest.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        OrderRequestProperties properties = new OrderRequestProperties();
+        properties.setMaxItems(Math.max(properties.getMaxItems(), itemsPerOrder));
+        streamingReader = new OrderRequestReader(objectMapper, properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public ParsedOrderRequest bindValidateAndMap() throws IOException {
+        OrderRequest request = requestReader.readValue(body);
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException(violations.toString());
+        }
+        return ParsedOrderRequest.from(request);
+    }
+
+    @Benchmark
+    public ParsedOrderRequest streamingRead() throws IOException {
+        return streamingReader.read(new ByteArrayInputStream(body), body.length);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.ecommerce.order.query.repository.OrderProjectionBatchRepository;
+import com.ecommerce.shared.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Projeção de OrderCreated (eventos/s) por tamanho de lote: cada lote numa transação, gravado como o
+ * listener registro a registro faz (SELECT de existência + INSERT por evento, o que o save() emite)
+ * ou com o INSERT multi-row ON CONFLICT DO NOTHING do OrderProjectionBatchRepository.
+ *
+ * Padrão: H2 em memória (modo PostgreSQL). Para medir no PostgreSQL, usar um banco descartável (a tabela
+ * order_projection é recriada): -Dbench.jdbc.url=jdbc:postgresql://localhost:5433/bench -Dbench.jdbc.user=postgres
+ * -Dbench.jdbc.password=postgres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBatchBenchmark {
+
+    private static final int EVENTS = 1000;
+    private static final String ITEMS_JSON =
+            "[{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":1,\"unitPrice\":1500.00,\"subtotal\":1500.00}]";
+
+    @Param({"save", "upsert"})
+    private String path;
+
+    @Param({"1", "100", "1000"})
+    private int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private OrderProjectionBatchRepository batchRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc.url",
+                "jdbc:h2:mem:projection_batch_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS jsonb AS VARCHAR");
+        dataSource = new SingleConnectionDataSource(url,
+                System.getProperty("bench.jdbc.user", "sa"), System.getProperty("bench.jdbc.password", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchRepository = new OrderProjectionBatchRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_projection");
+        jdbcTemplate.execute("CREATE TABLE order_projection ("
+                + "order_id UUID PRIMARY KEY, customer_id VARCHAR(255) NOT NULL, items jsonb NOT NULL, "
+                + "total_amount NUMERIC(19, 2) NOT NULL, status VARCHAR(255) NOT NULL, "
+                + "created_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                + "version INTEGER NOT NULL)");
+    }
+
+    // Tabela vazia a cada iteração: o tamanho do índice não varia entre as medições
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE order_projection");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS order_projection");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int project() {
+        int written = 0;
+        for (int from = 0; from < EVENTS; from += batchSize) {
+            List<OrderProjection> batch = projections(Math.min(batchSize, EVENTS - from));
+            Integer rows = transactionTemplate.execute(status -> "upsert".equals(path)
+                    ? batchRepository.insertIfAbsent(batch, batch.size())
+                    : selectThenInsert(batch));
+            written += rows != null ? rows : 0;
+        }
+        return written;
+    }
+
+    private int selectThenInsert(List<OrderProjection> batch) {
+        int inserted = 0;
+        for (OrderProjection projection : batch) {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM order_projection WHERE order_id = ?", Integer.class, projection.getOrderId());
+            if (existing != null && existing == 0) {
+                inserted += jdbcTemplate.update("INSERT INTO order_projection (order_id, customer_id, items, "
+                                + "total_amount, status, created_at, updated_at, version) VALUES (?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?)",
+                        projection.getOrderId(), projection.getCustomerId(), ITEMS_JSON, projection.getTotalAmount(),
+                        projection.getStatus(), Timestamp.from(projection.getCreatedAt()),
+                        Timestamp.from(projection.getUpdatedAt()), projection.getVersion());
+            }
+        }
+        return inserted;
+    }
+
+    private static List<OrderProjection> projections(int count) {
+        Instant now = Instant.now();
+        List<OrderProjection> projections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projections.add(OrderProjection.builder()
+                    .orderId(UuidV7.next())
+                    .customerId("CUST-" + (i % 100))
+                    .items(List.of(OrderProjection.OrderItemProjection.builder()
+                            .productId("PROD-001")
+                            .productName("Laptop")
+                            .quantity(1)
+                            .unitPrice(new BigDecimal("1500.00"))
+                            .subtotal(new BigDecimal("1500.00"))
+                            .build()))
+                    .totalAmount(new BigDecimal("1500.00"))
+                    .status("PENDING")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(1)
+                    .build());
+        }
+        return projections;
+    }
+}
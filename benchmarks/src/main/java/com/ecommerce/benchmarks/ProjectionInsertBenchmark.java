@@ -0,0 +1,108 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.shared.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput de INSERT (linhas/s, em lotes de 100 por commit) numa tabela com o formato de
+ * order_projection, com PK UUID aleatória (UUID.randomUUID) ou ordenada por tempo (UuidV7).
+ * A tabela começa com preloadedRows linhas para que a PK já tenha um índice de tamanho realista.
+ *
+ * Padrão: H2 em memória. Para medir no PostgreSQL, onde as page splits e o cache de páginas pesam:
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/order_query_db -Dbench.jdbc.user=postgres -Dbench.jdbc.password=postgres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String ITEMS =
+            "[{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":1,\"unitPrice\":1500.00,\"subtotal\":1500.00}]";
+
+    @Param({"random", "v7"})
+    private String keys;
+
+    @Param({"1000000"})
+    private int preloadedRows;
+
+    private Supplier<UUID> keyGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        keyGenerator = "v7".equals(keys) ? UuidV7::next : UUID::randomUUID;
+        table = "order_projection_bench_" + keys;
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:projection_bench;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "order_id UUID PRIMARY KEY, customer_id VARCHAR(255) NOT NULL, items TEXT NOT NULL, "
+                    + "total_amount NUMERIC(19, 2) NOT NULL, status VARCHAR(255) NOT NULL, "
+                    + "created_at TIMESTAMP WITH TIME ZONE NOT NULL, updated_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                    + "version INTEGER NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table
+                + " (order_id, customer_id, items, total_amount, status, created_at, updated_at, version)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+
+        for (int loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) {
+            insertRows(Math.min(BATCH_SIZE, preloadedRows - loaded));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        insertRows(BATCH_SIZE);
+    }
+
+    private void insertRows(int rows) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < rows; i++) {
+            insert.setObject(1, keyGenerator.get());
+            insert.setString(2, "CUST-123");
+            insert.setString(3, ITEMS);
+            insert.setBigDecimal(4, new BigDecimal("1500.00"));
+            insert.setString(5, "PENDING");
+            insert.setTimestamp(6, now);
+            insert.setTimestamp(7, now);
+            insert.setInt(8, 1);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
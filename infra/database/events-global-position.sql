@@ -0,0 +1,39 @@
+-- Posição global da tabela events (stream de replay/catch-up do order-command-service)
+--
+-- Executar uma única vez no order_command_db, com a aplicação parada:
+--   psql -h localhost -U postgres -d order_command_db -f infra/database/events-global-position.sql
+--
+-- A posição vem de uma sequência própria atribuída no INSERT (DEFAULT), e não do id: o id é
+-- reservado em blocos de 50 por instância e não segue a ordem de gravação entre instâncias.
+-- Sequência sem cache (CACHE 1) para que os valores saiam na ordem dos INSERTs de todas as conexões.
+-- Funciona também com a tabela já particionada, onde IDENTITY não é aceito: se as duas migrações forem
+-- necessárias, rodar events-partitioning.sql antes desta (ela recria a tabela sem a coluna).
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS events_global_position_seq CACHE 1;
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS global_position BIGINT;
+
+-- Histórico existente: ordem de criação, desempate pelo id
+UPDATE events e
+   SET global_position = ordered.position
+  FROM (SELECT id, created_at, ROW_NUMBER() OVER (ORDER BY created_at, id) AS position FROM events) ordered
+ WHERE e.id = ordered.id
+   AND e.created_at = ordered.created_at
+   AND e.global_position IS NULL;
+
+SELECT setval('events_global_position_seq', GREATEST((SELECT COALESCE(MAX(global_position), 0) FROM events), 1),
+              (SELECT COUNT(*) > 0 FROM events));
+
+ALTER TABLE events ALTER COLUMN global_position SET DEFAULT nextval('events_global_position_seq');
+ALTER TABLE events ALTER COLUMN global_position SET NOT NULL;
+ALTER SEQUENCE events_global_position_seq OWNED BY events.global_position;
+
+-- Em tabela particionada o índice é propagado para cada partição
+CREATE INDEX IF NOT EXISTS idx_events_global_position ON events (global_position);
+
+COMMIT;
+
+-- Conferência: posições duplicadas (deve retornar 0)
+SELECT COUNT(*) - COUNT(DISTINCT global_position) AS duplicated_positions FROM events;
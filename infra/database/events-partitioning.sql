@@ -0,0 +1,79 @@
+-- Migração da tabela events para particionamento declarativo por mês (created_at)
+--
+-- Executar uma única vez no order_command_db, com a aplicação parada:
+--   psql -h localhost -U postgres -d order_command_db -f infra/database/events-partitioning.sql
+--
+-- Depois da migração, habilitar event-store.partitioning.enabled=true para que a aplicação
+-- crie as partições futuras e arquive as antigas (EventPartitionMaintenance).
+--
+-- Observação: em tabelas particionadas toda chave primária/única precisa conter a coluna
+-- de partição, por isso a PK passa a ser (id, created_at).
+
+BEGIN;
+
+ALTER TABLE events RENAME TO events_legacy;
+ALTER INDEX IF EXISTS idx_aggregate_id RENAME TO idx_legacy_aggregate_id;
+ALTER INDEX IF EXISTS idx_event_type RENAME TO idx_legacy_event_type;
+
+CREATE TABLE events (
+    id              BIGINT       NOT NULL DEFAULT nextval('events_seq'),
+    aggregate_id    UUID         NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    event_data      TEXT,
+    event_payload   BYTEA,
+    codec           VARCHAR(16)  NOT NULL,
+    correlation_id  UUID         NOT NULL,
+    causation_id    UUID         NOT NULL,
+    version         INTEGER      NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Índices no pai são propagados para cada partição
+CREATE INDEX idx_events_aggregate_version ON events (aggregate_id, version);
+CREATE INDEX idx_events_event_type ON events (event_type);
+
+-- uk_events_aggregate_version (aggregate_id, version) não pode existir na tabela particionada sem
+-- created_at. Com event-store.partitioning.enabled=true, o JpaEventStore faz a conferência de versão
+-- e o insert sob pg_advisory_xact_lock do agregado, o que substitui o índice único; o índice acima
+-- mantém a conferência barata. Não rodar a aplicação sobre esta tabela sem a propriedade habilitada.
+
+-- Uma partição por mês já presente no histórico, mais os próximos 3 meses
+DO $$
+DECLARE
+    month_start DATE;
+    last_month  DATE;
+BEGIN
+    SELECT COALESCE(DATE_TRUNC('month', MIN(created_at))::date, DATE_TRUNC('month', NOW())::date)
+      INTO month_start
+      FROM events_legacy;
+    last_month := (DATE_TRUNC('month', NOW()) + INTERVAL '3 months')::date;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+            'events_p' || TO_CHAR(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO events (id, aggregate_id, event_type, event_data, event_payload, codec,
+                    correlation_id, causation_id, version, created_at)
+SELECT id, aggregate_id, event_type, event_data, event_payload, COALESCE(codec, 'json'),
+       correlation_id, causation_id, version, created_at
+  FROM events_legacy;
+
+DROP TABLE events_legacy;
+
+COMMIT;
+
+-- Conferência: partições e quantidade de linhas em cada uma
+SELECT child.relname AS partition, pg_get_expr(child.relpartbound, child.oid) AS bounds,
+       child.reltuples::bigint AS estimated_rows
+  FROM pg_inherits
+  JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+  JOIN pg_class child  ON child.oid  = pg_inherits.inhrelid
+ WHERE parent.relname = 'events'
+ ORDER BY child.relname;
@@ -68,10 +68,18 @@ WHERE processed = false
 ORDER BY created_at ASC
 LIMIT 10;
 
--- 7. Limpar eventos processados antigos (> 7 dias)
--- DELETE FROM outbox 
--- WHERE processed = true 
---   AND processed_at < NOW() - INTERVAL '7 days';
+-- 7. Retenção: com a tabela particionada por dia (infra/database/outbox-partitioning.sql) a limpeza
+--    é o DROP das partições antigas feito pelo OutboxPartitionMaintenance, não um DELETE.
+--    Partições e pendentes por partição (as que passaram da retenção só caem com zero pendentes):
+SELECT 
+    tableoid::regclass as partition,
+    COUNT(*) as total,
+    COUNT(*) FILTER (WHERE processed = false) as pending,
+    MIN(created_at) as oldest,
+    MAX(created_at) as newest
+FROM outbox
+GROUP BY tableoid
+ORDER BY partition;
 
 -- 8. Performance do Event Store
 SELECT 
@@ -0,0 +1,89 @@
+-- Migração da tabela outbox para particionamento declarativo por dia (created_at)
+--
+-- Executar uma única vez no order_command_db, com a aplicação e o conector Debezium parados:
+--   psql -h localhost -U postgres -d order_command_db -f infra/database/outbox-partitioning.sql
+--
+-- Depois da migração, habilitar outbox.partitioning.enabled=true para que a aplicação crie as
+-- partições dos próximos dias e descarte as que passaram da retenção (OutboxPartitionMaintenance).
+-- Registros processados há mais de 7 dias não são copiados: é a limpeza que o DELETE fazia.
+--
+-- Observação: em tabelas particionadas toda chave primária/única precisa conter a coluna
+-- de partição, por isso a PK passa a ser (id, created_at).
+
+BEGIN;
+
+ALTER TABLE outbox RENAME TO outbox_legacy;
+ALTER INDEX IF EXISTS idx_processed RENAME TO idx_legacy_processed;
+ALTER INDEX IF EXISTS idx_created_at RENAME TO idx_legacy_created_at;
+
+CREATE TABLE outbox (
+    id              BIGINT       NOT NULL DEFAULT nextval('outbox_seq'),
+    aggregate_id    UUID         NOT NULL,
+    aggregate_type  VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(255) NOT NULL,
+    event_data      TEXT,
+    event_payload   BYTEA,
+    codec           VARCHAR(16)  NOT NULL,
+    correlation_id  UUID         NOT NULL,
+    causation_id    UUID         NOT NULL,
+    version         INTEGER      NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    processed       BOOLEAN      NOT NULL,
+    processed_at    TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Índice parcial só com os pendentes: fica do tamanho do backlog em vez de crescer com a tabela.
+-- Mantém o nome idx_processed para o ddl-auto=update do Hibernate não recriar o índice completo.
+CREATE INDEX idx_processed ON outbox (id) WHERE processed = false;
+CREATE INDEX idx_created_at ON outbox (created_at);
+
+-- Uma partição por dia desde o registro mais antigo mantido, mais os próximos 3 dias
+DO $$
+DECLARE
+    day_start DATE;
+    last_day  DATE;
+BEGIN
+    SELECT COALESCE(MIN(created_at)::date, CURRENT_DATE)
+      INTO day_start
+      FROM outbox_legacy
+     WHERE processed = false OR created_at >= NOW() - INTERVAL '7 days';
+    last_day := CURRENT_DATE + 3;
+
+    WHILE day_start <= last_day LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox FOR VALUES FROM (%L) TO (%L)',
+            'outbox_p' || TO_CHAR(day_start, 'YYYY_MM_DD'),
+            day_start,
+            day_start + 1);
+        day_start := day_start + 1;
+    END LOOP;
+END $$;
+
+INSERT INTO outbox (id, aggregate_id, aggregate_type, event_type, event_data, event_payload, codec,
+                    correlation_id, causation_id, version, created_at, processed, processed_at)
+SELECT id, aggregate_id, aggregate_type, event_type, event_data, event_payload, COALESCE(codec, 'json'),
+       correlation_id, causation_id, version, created_at, processed, processed_at
+  FROM outbox_legacy
+ WHERE processed = false OR created_at >= NOW() - INTERVAL '7 days';
+
+DROP TABLE outbox_legacy;
+
+-- Debezium (pgoutput): publicar as mudanças das partições como se fossem da tabela outbox
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'dbz_publication') THEN
+        ALTER PUBLICATION dbz_publication SET (publish_via_partition_root = true);
+    END IF;
+END $$;
+
+COMMIT;
+
+-- Conferência: partições e pendentes em cada uma
+SELECT child.relname AS partition, pg_get_expr(child.relpartbound, child.oid) AS bounds,
+       child.reltuples::bigint AS estimated_rows
+  FROM pg_inherits
+  JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+  JOIN pg_class child  ON child.oid  = pg_inherits.inhrelid
+ WHERE parent.relname = 'outbox'
+ ORDER BY child.relname;
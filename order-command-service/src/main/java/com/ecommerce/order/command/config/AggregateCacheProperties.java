@@ -0,0 +1,21 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.aggregate-cache")
+public class AggregateCacheProperties {
+
+    private boolean enabled = true;
+
+    // Peso total do cache: cada pedido pesa 1 + número de itens
+    private long maximumWeight = 200_000;
+
+    // Pedidos sem comandos por este período saem do cache
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+}
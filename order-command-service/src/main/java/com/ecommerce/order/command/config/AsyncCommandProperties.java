@@ -0,0 +1,28 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.async-commands")
+public class AsyncCommandProperties {
+
+    // Desligado por padrão: POST /api/v1/orders responde 201 de forma síncrona
+    private boolean enabled = false;
+
+    // Threads que executam os comandos aceitos
+    private int poolSize = 4;
+
+    // Comandos aguardando execução; acima disso o POST responde 429
+    private int queueCapacity = 1000;
+
+    // Sugestão (segundos) enviada no Retry-After do 429
+    private int retryAfterSeconds = 1;
+
+    // Por quanto tempo um comando reivindicado fica com a instância; vencido, outra instância o retoma
+    private Duration lease = Duration.ofMinutes(5);
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.bulk")
+public class BulkIngestionProperties {
+
+    // Linhas acumuladas antes de cada gravação (válidas ou rejeitadas): limita pedidos por transação e memória
+    private int chunkSize = 500;
+
+    // Caracteres aceitos por linha; o excedente é descartado durante a leitura e a linha é rejeitada
+    private int maxLineLength = 1024 * 1024;
+}
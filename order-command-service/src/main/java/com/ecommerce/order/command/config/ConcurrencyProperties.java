@@ -0,0 +1,21 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.concurrency")
+public class ConcurrencyProperties {
+
+    // Tentativas por comando (a primeira incluída) antes de devolver 409 ao cliente
+    private int maxAttempts = 5;
+
+    // Espera antes da segunda tentativa; dobra a cada conflito até maxBackoff (com jitter)
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
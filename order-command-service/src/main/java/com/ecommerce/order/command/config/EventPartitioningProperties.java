@@ -0,0 +1,32 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "event-store.partitioning")
+public class EventPartitioningProperties {
+
+    // Requer a tabela events já particionada (infra/database/events-partitioning.sql)
+    private boolean enabled = false;
+
+    // Quantos meses futuros manter com partição criada
+    private int monthsAhead = 3;
+
+    // Meses mantidos no banco; partições mais antigas são arquivadas em disco
+    private int hotMonths = 12;
+
+    // Diretório dos segmentos arquivados (.ndjson.gz + índice de agregados)
+    private String archiveDirectory = "./data/event-archive";
+
+    // Linhas por round-trip ao exportar uma partição (cursor no servidor)
+    private int exportFetchSize = 1000;
+
+    // Remove a partição após o detach (false mantém a tabela solta para conferência manual)
+    private boolean dropAfterArchive = true;
+
+    // Quantos índices de segmento manter em memória
+    private long indexCacheSize = 64;
+}
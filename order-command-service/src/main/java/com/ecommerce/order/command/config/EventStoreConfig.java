@@ -0,0 +1,31 @@
+package com.ecommerce.order.command.config;
+
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.EventStore;
+import com.ecommerce.order.command.repository.JpaEventStore;
+import com.ecommerce.order.command.repository.MappedFileEventStore;
+import com.ecommerce.order.command.service.EventSegmentArchive;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class EventStoreConfig {
+
+    @Bean
+    public EventStore eventStore(EventStoreProperties properties,
+                                 EventPartitioningProperties partitioningProperties,
+                                 EventRepository eventRepository,
+                                 EventSegmentArchive archive) {
+        if (properties.getBackend() == EventStoreProperties.Backend.MAPPED_FILE) {
+            EventStoreProperties.MappedFile mappedFile = properties.getMappedFile();
+            return new MappedFileEventStore(
+                    Paths.get(mappedFile.getDirectory()),
+                    Math.toIntExact(mappedFile.getSegmentSize().toBytes()),
+                    mappedFile.isFsyncOnAppend());
+        }
+        // Tabela particionada (sem índice único de versão): append serializado por agregado
+        return new JpaEventStore(eventRepository, partitioningProperties.isEnabled(), archive::findMaxVersion);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "event-store")
+public class EventStoreProperties {
+
+    private Backend backend = Backend.JPA;
+
+    private MappedFile mappedFile = new MappedFile();
+
+    public enum Backend {
+        JPA,
+        MAPPED_FILE
+    }
+
+    @Data
+    public static class MappedFile {
+
+        // Diretório dos segmentos do log (segment-NNNNNNNN.log + .idx dos segmentos fechados)
+        private String directory = "./data/event-log";
+
+        // Tamanho de cada segmento mapeado em memória; um lote de eventos nunca é dividido entre segmentos
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        // force() a cada append: sem ele uma queda do SO pode perder os últimos lotes
+        private boolean fsyncOnAppend = true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "event-store.stream")
+public class EventStreamProperties {
+
+    // Linhas por round-trip na leitura em streaming (cursor no servidor)
+    private int fetchSize = 500;
+
+    // Eventos por página na fase de catch-up e a cada consulta do tail ao vivo
+    private int pageSize = 500;
+
+    // Intervalo entre consultas de uma assinatura que já alcançou o fim do stream
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    // Um buraco na posição global só é pulado quando o evento seguinte tem mais que isso: até lá pode
+    // ser uma transação ainda não commitada (depois, é rollback e o buraco é permanente)
+    private Duration gapTimeout = Duration.ofSeconds(5);
+
+    // Threads compartilhadas por todas as assinaturas
+    private int subscriberThreads = 2;
+}
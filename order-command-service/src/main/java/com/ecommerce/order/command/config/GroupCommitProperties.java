@@ -0,0 +1,25 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.group-commit")
+public class GroupCommitProperties {
+
+    // Desligado por padrão: cada comando faz seu próprio commit
+    private boolean enabled = false;
+
+    // Máximo de comandos por transação compartilhada
+    private int maxBatchSize = 64;
+
+    // Quanto o writer espera por mais comandos depois do primeiro da fila
+    private Duration maxLinger = Duration.ofMillis(5);
+
+    // Capacidade da fila; quando cheia, quem submete fica bloqueado (backpressure)
+    private int queueCapacity = 1024;
+}
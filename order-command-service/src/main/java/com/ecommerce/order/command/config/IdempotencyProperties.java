@@ -0,0 +1,22 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.idempotency")
+public class IdempotencyProperties {
+
+    // Por quanto tempo uma chave continua deduplicando retries
+    private Duration retention = Duration.ofHours(24);
+
+    // Máximo de chaves mantidas no cache em memória (o banco continua sendo a fonte da verdade)
+    private long cacheSize = 100_000;
+
+    // Intervalo do job que remove chaves expiradas do banco
+    private Duration purgeInterval = Duration.ofHours(1);
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order.request")
+public class OrderRequestProperties {
+
+    // Itens aceitos em um pedido; a leitura para assim que o limite é ultrapassado
+    private int maxItems = 10_000;
+
+    // Tamanho máximo do corpo de POST /api/v1/orders (413 acima disso)
+    private DataSize maxBodySize = DataSize.ofMegabytes(10);
+}
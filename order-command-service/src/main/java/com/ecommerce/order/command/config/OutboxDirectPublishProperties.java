@@ -0,0 +1,22 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox.direct-publish")
+public class OutboxDirectPublishProperties {
+
+    // Publica no Kafka logo após o commit; relay/CDC ficam só com o que falhar
+    private boolean enabled = false;
+
+    // Registros mais novos que isso ficam com a publicação direta; o relay só pega os mais antigos
+    private Duration relayGracePeriod = Duration.ofSeconds(5);
+
+    // Ids confirmados pelo broker são marcados como processados em lote nesse intervalo
+    private Duration markInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox.partitioning")
+public class OutboxPartitioningProperties {
+
+    // Requer a tabela outbox já particionada (infra/database/outbox-partitioning.sql)
+    private boolean enabled = false;
+
+    // Quantos dias futuros manter com partição criada
+    private int daysAhead = 3;
+
+    // Dias mantidos no banco; partições mais antigas são descartadas se não houver nada pendente
+    private int retentionDays = 7;
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    // Publicação do outbox pela própria aplicação (substitui o conector Debezium; não rodar os dois)
+    private boolean enabled = false;
+
+    // Registros reivindicados por transação (FOR UPDATE SKIP LOCKED)
+    private int batchSize = 100;
+
+    // Intervalo entre ciclos quando o outbox está vazio; lote cheio dispara o próximo na hora
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    // Envios aguardando ack do broker ao mesmo tempo (por instância)
+    private int maxInFlight = 1000;
+
+    // Espera máxima pelos acks de um lote; o que não confirmar volta a ser publicado no próximo ciclo
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    // Mesmo tópico do conector registrado (infra/debezium/register-connector.json), lido pela query e pela saga
+    private String topic = "order-events";
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.order.command.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled = true;
+
+    // Intervalo padrão (em número de eventos) entre snapshots
+    private int defaultThreshold = 50;
+
+    // Intervalo por tipo de agregado, ex: snapshot.thresholds.Order=100
+    private Map<String, Integer> thresholds = new HashMap<>();
+
+    public int thresholdFor(String aggregateType) {
+        return thresholds.getOrDefault(aggregateType, defaultThreshold);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.order.command.controller;
+
+import com.ecommerce.order.command.dto.CommandStatusResponse;
+import com.ecommerce.order.command.service.CommandService;
+import com.ecommerce.shared.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/commands")
+@RequiredArgsConstructor
+public class CommandController {
+
+    private final CommandService commandService;
+
+    @GetMapping("/{commandId}")
+    public ResponseEntity<ApiResponse> getCommandStatus(@PathVariable UUID commandId) {
+        CommandStatusResponse status = commandService.getStatus(commandId);
+        return ResponseEntity.ok(ApiResponse.success("Command status", status));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.order.command.controller;
+
+import com.ecommerce.order.command.repository.EventStreamFilter;
+import com.ecommerce.order.command.service.EventStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/events")
+public class EventStreamController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    // Posição até a qual a resposta está completa; o cliente continua a partir dela (from).
+    // Só sai sem limit: com limit o corpo pode parar antes e o cliente continua do globalPosition da última linha
+    private static final String SAFE_POSITION = "Event-Stream-Safe-Position";
+
+    private final EventStreamService eventStreamService;
+    private final ObjectWriter eventWriter;
+
+    public EventStreamController(EventStreamService eventStreamService, ObjectMapper objectMapper) {
+        this.eventStreamService = eventStreamService;
+        this.eventWriter = objectMapper.writer();
+    }
+
+    // Eventos com posição global > from, um por linha; limit = 0 lê até a posição segura
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public void streamEvents(@RequestParam(defaultValue = "0") long from,
+                             @RequestParam(required = false) String eventType,
+                             @RequestParam(required = false) UUID aggregateId,
+                             @RequestParam(defaultValue = "0") long limit,
+                             HttpServletResponse response) throws IOException {
+        long upTo = eventStreamService.safePosition();
+        log.info("Streaming events after position {} up to {}", from, upTo);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (limit <= 0) {
+            response.setHeader(SAFE_POSITION, String.valueOf(upTo));
+        }
+
+        OutputStream out = response.getOutputStream();
+        eventStreamService.stream(from, upTo, new EventStreamFilter(eventType, aggregateId), limit, event -> {
+            try {
+                out.write(eventWriter.writeValueAsBytes(event));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+}
@@ -1,18 +1,35 @@
 package com.ecommerce.order.command.controller;
 
-import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.config.AsyncCommandProperties;
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.dto.CancelOrderRequest;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.exception.BusinessException;
+import com.ecommerce.order.command.service.BulkOrderService;
+import com.ecommerce.order.command.service.CommandService;
+import com.ecommerce.order.command.service.OrderCreationResult;
+import com.ecommerce.order.command.service.OrderRequestReader;
 import com.ecommerce.shared.response.ApiResponse;
 import com.ecommerce.order.command.service.OrderService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 
@@ -22,13 +39,34 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final OrderService orderService;
+    private final CommandService commandService;
+    private final BulkOrderService bulkOrderService;
+    private final OrderRequestReader orderRequestReader;
+    private final AsyncCommandProperties asyncCommandProperties;
+
+    // Corpo lido em streaming direto para os value objects (mesmos erros de validação do @Valid)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse> createOrder(
+            HttpServletRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) throws IOException {
+        ParsedOrderRequest orderRequest = orderRequestReader.read(request.getInputStream(), request.getContentLengthLong());
+        log.info("Received request to create order for customer: {}", orderRequest.customerId().getValue());
+
+        if (idempotencyKey != null) {
+            return createOrderIdempotently(orderRequest, idempotencyKey);
+        }
 
-    @PostMapping
-    public ResponseEntity<ApiResponse> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
-        log.info("Received request to create order for customer: {}", orderRequest.getCustomerId());
+        if (asyncCommandProperties.isEnabled()) {
+            return acceptCreateOrder(orderRequest);
+        }
         
-        UUID orderId = orderService.createOrder(orderRequest);
+        UUID orderId = orderService.createOrder(orderRequest, null).orderId();
         
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -37,4 +75,69 @@ public class OrderController {
                         Map.of("orderId", orderId)
                 ));
     }
+
+    // Retry com a mesma chave devolve o pedido original (200) em vez de criar outro (201)
+    private ResponseEntity<ApiResponse> createOrderIdempotently(ParsedOrderRequest orderRequest, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new BusinessException("INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        OrderCreationResult result = orderService.createOrder(orderRequest, idempotencyKey);
+        if (result.replayed()) {
+            return ResponseEntity
+                    .ok()
+                    .header(IDEMPOTENT_REPLAYED, "true")
+                    .body(ApiResponse.success(
+                            "Order already created for this Idempotency-Key",
+                            Map.of("orderId", result.orderId())
+                    ));
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.created(
+                        "Order created successfully",
+                        Map.of("orderId", result.orderId())
+                ));
+    }
+
+    @PutMapping("/{orderId}/cancel")
+    public ResponseEntity<ApiResponse> cancelOrder(
+            @PathVariable UUID orderId,
+            @Valid @RequestBody CancelOrderRequest request) {
+        log.info("Received request to cancel order {}", orderId);
+
+        Order order = orderService.cancelOrder(orderId, request.getReason());
+
+        return ResponseEntity.ok(ApiResponse.success(
+                "Order cancelled successfully",
+                Map.of("orderId", order.getId(), "status", order.getStatus(), "version", order.getVersion())
+        ));
+    }
+
+    // Corpo NDJSON (um pedido por linha); a resposta traz o resultado de cada linha, também em NDJSON
+    @PostMapping(value = "/bulk", consumes = NDJSON)
+    public void createOrdersBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("Received bulk order ingestion request");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        bulkOrderService.ingest(request.getInputStream(), response.getOutputStream());
+    }
+
+    // Modo assíncrono: 202 assim que o comando está persistido; o resultado é consultado em statusUrl
+    private ResponseEntity<ApiResponse> acceptCreateOrder(ParsedOrderRequest orderRequest) {
+        UUID commandId = commandService.submitCreateOrder(orderRequest.toOrderRequest());
+        String statusUrl = "/api/v1/commands/" + commandId;
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create(statusUrl))
+                .body(ApiResponse.accepted(
+                        "Order command accepted",
+                        Map.of("commandId", commandId, "statusUrl", statusUrl)
+                ));
+    }
 }
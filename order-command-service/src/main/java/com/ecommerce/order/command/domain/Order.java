@@ -1,11 +1,16 @@
 package com.ecommerce.order.command.domain;
 
+import com.ecommerce.order.command.domain.event.OrderCancelledDomainEvent;
 import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.snapshot.OrderSnapshot;
 import com.ecommerce.order.command.domain.valueobject.CustomerId;
 import com.ecommerce.order.command.domain.valueobject.Money;
 import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.domain.valueobject.ProductId;
+import com.ecommerce.order.command.domain.valueobject.Quantity;
 import com.ecommerce.shared.domain.AggregateRoot;
 import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.id.UuidV7;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -13,6 +18,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Getter
@@ -24,6 +30,8 @@ public class Order extends AggregateRoot {
     private OrderStatus status;
     private Instant createdAt;
     private Instant updatedAt;
+    // Correlação do pedido (a do OrderCreated): os eventos seguintes do agregado a reutilizam
+    private UUID correlationId;
 
     // Constructor privado para reconstrução do estado
     private Order() {
@@ -41,14 +49,14 @@ public class Order extends AggregateRoot {
             throw new IllegalArgumentException("Order must have at least one item");
         }
 
-        // Calcular total
-        Money total = items.stream()
+        // Calcular total (soma em centavos, sem um Money intermediário por item)
+        Money total = Money.sum(items.stream()
                 .map(OrderItem::getSubtotal)
-                .reduce(Money.zero(), Money::add);
+                .collect(Collectors.toList()));
 
         // Criar ordem
         Order order = new Order();
-        UUID orderId = UUID.randomUUID();
+        UUID orderId = UuidV7.next();
         order.id = orderId;
 
         // Aplicar evento
@@ -73,6 +81,8 @@ public class Order extends AggregateRoot {
     protected void apply(DomainEvent event) {
         if (event instanceof OrderCreatedDomainEvent) {
             apply((OrderCreatedDomainEvent) event);
+        } else if (event instanceof OrderCancelledDomainEvent) {
+            apply((OrderCancelledDomainEvent) event);
         }
         // Outros eventos serão adicionados aqui
     }
@@ -85,12 +95,21 @@ public class Order extends AggregateRoot {
         this.status = OrderStatus.PENDING;
         this.createdAt = event.getTimestamp();
         this.updatedAt = event.getTimestamp();
+        this.correlationId = event.getCorrelationId();
         this.version = event.getVersion();
         
         log.debug("Order {} created for customer {} with total amount {}", 
                 this.id, this.customerId.getValue(), this.totalAmount);
     }
 
+    private void apply(OrderCancelledDomainEvent event) {
+        this.status = OrderStatus.CANCELLED;
+        this.updatedAt = event.getTimestamp();
+        this.version = event.getVersion();
+
+        log.debug("Order {} cancelled: {}", this.id, event.getReason());
+    }
+
     // Reconstruir do histórico de eventos
     public static Order fromHistory(List<DomainEvent> history) {
         if (history == null || history.isEmpty()) {
@@ -102,8 +121,60 @@ public class Order extends AggregateRoot {
         return order;
     }
 
+    // Reconstruir a partir de um snapshot + eventos posteriores a ele
+    public static Order fromSnapshot(OrderSnapshot snapshot, List<DomainEvent> eventsAfterSnapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+
+        Order order = new Order();
+        order.id = snapshot.getOrderId();
+        order.customerId = new CustomerId(snapshot.getCustomerId());
+        order.items = snapshot.getItems().stream()
+                .map(item -> new OrderItem(
+                        new ProductId(item.getProductId()),
+                        item.getProductName(),
+                        new Quantity(item.getQuantity()),
+                        Money.of(item.getUnitPrice(), item.getCurrency())))
+                .collect(Collectors.toList());
+        order.totalAmount = Money.of(snapshot.getTotalAmount(), snapshot.getCurrency());
+        order.status = OrderStatus.valueOf(snapshot.getStatus());
+        order.createdAt = snapshot.getCreatedAt();
+        order.updatedAt = snapshot.getUpdatedAt();
+        order.correlationId = snapshot.getCorrelationId();
+        order.version = snapshot.getVersion();
+
+        if (eventsAfterSnapshot != null && !eventsAfterSnapshot.isEmpty()) {
+            order.loadFromHistory(eventsAfterSnapshot);
+        }
+        return order;
+    }
+
+    public OrderSnapshot toSnapshot() {
+        return OrderSnapshot.builder()
+                .orderId(this.id)
+                .customerId(this.customerId.getValue())
+                .items(this.items.stream()
+                        .map(item -> OrderSnapshot.ItemSnapshot.builder()
+                                .productId(item.getProductId().getValue())
+                                .productName(item.getProductName())
+                                .quantity(item.getQuantity().getValue())
+                                .unitPrice(item.getUnitPrice().getAmount())
+                                .currency(item.getUnitPrice().getCurrency())
+                                .build())
+                        .collect(Collectors.toList()))
+                .totalAmount(this.totalAmount.getAmount())
+                .currency(this.totalAmount.getCurrency())
+                .status(this.status.name())
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
+                .correlationId(this.correlationId)
+                .version(this.version)
+                .build();
+    }
+
     // Business methods (para futuros comandos)
-    public void cancel(String reason) {
+    public void cancel(String reason, UUID causationId) {
         if (this.status == OrderStatus.CANCELLED) {
             throw new IllegalStateException("Order is already cancelled");
         }
@@ -111,8 +182,20 @@ public class Order extends AggregateRoot {
             throw new IllegalStateException("Cannot cancel delivered order");
         }
 
-        // TODO: Criar e aplicar OrderCancelledEvent
         log.info("Cancelling order {} with reason: {}", this.id, reason);
+
+        // Snapshots gravados antes da correlação fazer parte do estado não a têm
+        UUID correlationId = this.correlationId != null ? this.correlationId : UuidV7.next();
+
+        // A versão do novo evento é a seguinte à carregada: é ela que o Event Store confere no append
+        applyNewEvent(OrderCancelledDomainEvent.builder()
+                .aggregateId(this.id)
+                .reason(reason)
+                .timestamp(Instant.now())
+                .correlationId(correlationId)
+                .causationId(causationId)
+                .version(this.version + 1)
+                .build());
     }
 
     public void confirmPayment(UUID paymentId) {
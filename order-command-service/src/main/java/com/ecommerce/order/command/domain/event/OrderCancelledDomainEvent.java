@@ -0,0 +1,27 @@
+package com.ecommerce.order.command.domain.event;
+
+import com.ecommerce.shared.domain.DomainEvent;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Builder
+@ToString
+public class OrderCancelledDomainEvent implements DomainEvent {
+
+    private final UUID aggregateId;
+    private final String reason;
+    private final Instant timestamp;
+    private final UUID correlationId;
+    private final UUID causationId;
+    private final Integer version;
+
+    @Override
+    public String getEventType() {
+        return "OrderCancelled";
+    }
+}
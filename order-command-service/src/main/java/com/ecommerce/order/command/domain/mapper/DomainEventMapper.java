@@ -1,10 +1,18 @@
 package com.ecommerce.order.command.domain.mapper;
 
+import com.ecommerce.order.command.domain.event.OrderCancelledDomainEvent;
 import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
 import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.codec.EventCodec;
+import com.ecommerce.shared.codec.EventCodecs;
 import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
 public class DomainEventMapper {
@@ -17,9 +25,101 @@ public class DomainEventMapper {
         if (domainEvent instanceof OrderCreatedDomainEvent) {
             return toOrderCreatedEvent((OrderCreatedDomainEvent) domainEvent);
         }
+        if (domainEvent instanceof OrderCancelledDomainEvent) {
+            return toOrderCancelledEvent((OrderCancelledDomainEvent) domainEvent);
+        }
         throw new IllegalArgumentException("Unknown domain event type: " + domainEvent.getClass());
     }
 
+    public static SerializedEvent serialize(DomainEvent domainEvent) {
+        return serialize(domainEvent, EventCodecs.json());
+    }
+
+    // Mapeia e serializa uma única vez; o resultado é compartilhado entre Event Store e Outbox
+    public static SerializedEvent serialize(DomainEvent domainEvent, EventCodec codec) {
+        Object externalEvent = toExternalEvent(domainEvent);
+        byte[] payload = codec.encode(externalEvent);
+        return new SerializedEvent(
+                domainEvent,
+                externalEvent,
+                domainEvent.getEventType(),
+                codec.id(),
+                payload,
+                codec.isBinary() ? null : new String(payload, StandardCharsets.UTF_8),
+                domainEvent.getAggregateId(),
+                domainEvent.getCorrelationId(),
+                domainEvent.getCausationId(),
+                domainEvent.getVersion(),
+                domainEvent.getTimestamp());
+    }
+
+    // Caminho inverso: evento persistido no Event Store -> evento de domínio (reidratação)
+    public static DomainEvent toDomainEvent(String eventType, String eventData) {
+        if ("OrderCreated".equals(eventType)) {
+            return fromOrderCreatedEvent(JsonUtil.fromJson(eventData, OrderCreatedEvent.class));
+        }
+        if ("OrderCancelled".equals(eventType)) {
+            return fromOrderCancelledEvent(JsonUtil.fromJson(eventData, OrderCancelledEvent.class));
+        }
+        throw new IllegalArgumentException("Unknown event type: " + eventType);
+    }
+
+    // Decodifica com o codec registrado na linha: JSON em eventData, binários em eventPayload
+    public static DomainEvent toDomainEvent(String eventType, String codecId, String eventData, byte[] eventPayload) {
+        EventCodec codec = EventCodecs.forId(codecId);
+        if (!codec.isBinary()) {
+            return toDomainEvent(eventType, eventData);
+        }
+        if ("OrderCreated".equals(eventType)) {
+            return fromOrderCreatedEvent(codec.decode(eventPayload, OrderCreatedEvent.class));
+        }
+        if ("OrderCancelled".equals(eventType)) {
+            return fromOrderCancelledEvent(codec.decode(eventPayload, OrderCancelledEvent.class));
+        }
+        throw new IllegalArgumentException("Unknown event type: " + eventType);
+    }
+
+    private static OrderCreatedDomainEvent fromOrderCreatedEvent(OrderCreatedEvent event) {
+        return OrderCreatedDomainEvent.builder()
+                .aggregateId(event.getOrderId())
+                .customerId(new CustomerId(event.getCustomerId()))
+                .items(event.getItems().stream()
+                        .map(item -> OrderItem.create(
+                                item.getProductId(),
+                                item.getProductName(),
+                                item.getQuantity(),
+                                Money.of(item.getUnitPrice())))
+                        .collect(Collectors.toList()))
+                .totalAmount(Money.of(event.getTotalAmount()))
+                .timestamp(event.getTimestamp())
+                .correlationId(event.getCorrelationId())
+                .causationId(event.getCausationId())
+                .version(event.getVersion())
+                .build();
+    }
+
+    private static OrderCancelledDomainEvent fromOrderCancelledEvent(OrderCancelledEvent event) {
+        return OrderCancelledDomainEvent.builder()
+                .aggregateId(event.getOrderId())
+                .reason(event.getReason())
+                .timestamp(event.getTimestamp())
+                .correlationId(event.getCorrelationId())
+                .causationId(event.getCausationId())
+                .version(event.getVersion())
+                .build();
+    }
+
+    private static OrderCancelledEvent toOrderCancelledEvent(OrderCancelledDomainEvent domainEvent) {
+        return OrderCancelledEvent.builder()
+                .orderId(domainEvent.getAggregateId())
+                .reason(domainEvent.getReason())
+                .timestamp(domainEvent.getTimestamp())
+                .correlationId(domainEvent.getCorrelationId())
+                .causationId(domainEvent.getCausationId())
+                .version(domainEvent.getVersion())
+                .build();
+    }
+
     private static OrderCreatedEvent toOrderCreatedEvent(OrderCreatedDomainEvent domainEvent) {
         return OrderCreatedEvent.builder()
                 .orderId(domainEvent.getAggregateId())
@@ -0,0 +1,29 @@
+package com.ecommerce.order.command.domain.mapper;
+
+import com.ecommerce.shared.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Evento de domínio já mapeado e serializado, produzido uma única vez por evento
+ * e consumido tanto pelo Event Store quanto pelo Outbox.
+ */
+public record SerializedEvent(
+        DomainEvent domainEvent,
+        Object externalEvent,
+        String eventType,
+        String codec,
+        byte[] payload,
+        String textPayload,
+        UUID aggregateId,
+        UUID correlationId,
+        UUID causationId,
+        Integer version,
+        Instant timestamp) {
+
+    // textPayload só existe para codecs textuais (colunas TEXT)
+    public boolean binary() {
+        return textPayload == null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.order.command.domain.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado serializado do agregado Order em uma determinada versão.
+ * Permite reidratar o agregado sem reaplicar todo o histórico de eventos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderSnapshot {
+
+    private UUID orderId;
+    private String customerId;
+    private List<ItemSnapshot> items;
+    private BigDecimal totalAmount;
+    private String currency;
+    private String status;
+    private Instant createdAt;
+    private Instant updatedAt;
+    // Nulo em snapshots gravados antes deste campo
+    private UUID correlationId;
+    private Integer version;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemSnapshot {
+        private String productId;
+        private String productName;
+        private Integer quantity;
+        private BigDecimal unitPrice;
+        private String currency;
+    }
+}
@@ -2,18 +2,29 @@ package com.ecommerce.order.command.domain.valueobject;
 
 import com.ecommerce.shared.domain.ValueObject;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-
-@Getter
-@ToString
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Valor monetário com 2 casas decimais, guardado como quantidade de centavos (long).
+ * A aritmética não aloca BigDecimal; add/subtract/multiply lançam ArithmeticException em overflow.
+ * BigDecimal aparece só nas bordas: construção a partir de BigDecimal e getAmount().
+ */
 @EqualsAndHashCode
 public class Money implements ValueObject {
-    
-    private final BigDecimal amount;
+
+    private static final int SCALE = 2;
+    private static final String DEFAULT_CURRENCY = "BRL";
+    private static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    // Códigos ISO 4217 compartilhados: a comparação de moeda costuma parar na igualdade de referência
+    private static final ConcurrentMap<String, String> CURRENCIES = new ConcurrentHashMap<>();
+
+    private final long minorUnits;
     private final String currency;
 
     public Money(BigDecimal amount, String currency) {
@@ -23,48 +34,71 @@ public class Money implements ValueObject {
         if (currency == null || currency.isBlank()) {
             throw new IllegalArgumentException("Currency cannot be null or blank");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
-        this.currency = currency;
+        this.minorUnits = toMinorUnits(amount);
+        this.currency = intern(currency);
     }
 
     public Money(BigDecimal amount) {
-        this(amount, "BRL");
+        this(amount, DEFAULT_CURRENCY);
+    }
+
+    // Construtor interno: valores já validados (não negativos, moeda interned)
+    private Money(long minorUnits, String currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public String getCurrency() {
+        return currency;
     }
 
     public Money add(Money other) {
         validateCurrency(other);
-        return new Money(this.amount.add(other.amount), this.currency);
+        return of(Math.addExact(this.minorUnits, other.minorUnits), this.currency);
     }
 
     public Money subtract(Money other) {
         validateCurrency(other);
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        return of(Math.subtractExact(this.minorUnits, other.minorUnits), this.currency);
     }
 
     public Money multiply(int multiplier) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(multiplier)), this.currency);
+        return of(Math.multiplyExact(this.minorUnits, (long) multiplier), this.currency);
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier), this.currency);
+        return of(toMinorUnits(getAmount().multiply(multiplier)), this.currency);
     }
 
     public boolean isGreaterThan(Money other) {
         validateCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        return this.minorUnits > other.minorUnits;
     }
 
     public boolean isLessThan(Money other) {
         validateCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return this.minorUnits < other.minorUnits;
     }
 
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return this.minorUnits == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Money(amount=" + getAmount() + ", currency=" + currency + ")";
     }
 
     private void validateCurrency(Money other) {
-        if (!this.currency.equals(other.currency)) {
+        if (this.currency != other.currency && !this.currency.equals(other.currency)) {
             throw new IllegalArgumentException(
                 String.format("Cannot operate on different currencies: %s and %s", 
                     this.currency, other.currency)
@@ -73,7 +107,7 @@ public class Money implements ValueObject {
     }
 
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
     public static Money of(BigDecimal amount) {
@@ -83,5 +117,54 @@ public class Money implements ValueObject {
     public static Money of(BigDecimal amount, String currency) {
         return new Money(amount, currency);
     }
-}
 
+    public static Money ofMinorUnits(long minorUnits, String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("Currency cannot be null or blank");
+        }
+        return of(minorUnits, intern(currency));
+    }
+
+    // Soma sem objetos intermediários (total do pedido); coleção vazia soma zero em BRL
+    public static Money sum(Collection<Money> values) {
+        if (values.isEmpty()) {
+            return ZERO;
+        }
+        String currency = null;
+        long total = 0;
+        for (Money value : values) {
+            if (currency == null) {
+                currency = value.currency;
+            } else if (currency != value.currency && !currency.equals(value.currency)) {
+                throw new IllegalArgumentException(
+                    String.format("Cannot operate on different currencies: %s and %s", currency, value.currency));
+            }
+            total = Math.addExact(total, value.minorUnits);
+        }
+        return of(total, currency);
+    }
+
+    private static Money of(long minorUnits, String currency) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount cannot be null or negative");
+        }
+        return new Money(minorUnits, currency);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        BigDecimal scaled = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        try {
+            return scaled.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount out of range: " + amount);
+        }
+    }
+
+    private static String intern(String currency) {
+        if (currency.length() != 3) {
+            return currency;
+        }
+        String cached = CURRENCIES.putIfAbsent(currency, currency);
+        return cached != null ? cached : currency;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.command.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado de uma linha do NDJSON de entrada: orderId em caso de sucesso, error caso contrário.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOrderResult {
+
+    private long line;
+    private UUID orderId;
+    private String error;
+    private Map<String, String> details;
+
+    public static BulkOrderResult success(long line, UUID orderId) {
+        return new BulkOrderResult(line, orderId, null, null);
+    }
+
+    public static BulkOrderResult failure(long line, String error) {
+        return new BulkOrderResult(line, null, error, null);
+    }
+
+    public static BulkOrderResult invalid(long line, Map<String, String> details) {
+        return new BulkOrderResult(line, null, "Validation failed", details);
+    }
+}
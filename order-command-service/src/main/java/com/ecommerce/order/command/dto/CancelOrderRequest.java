@@ -0,0 +1,19 @@
+package com.ecommerce.order.command.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CancelOrderRequest {
+
+    @NotBlank(message = "Cancellation reason is required")
+    @Size(max = 500, message = "Cancellation reason must have at most 500 characters")
+    private String reason;
+}
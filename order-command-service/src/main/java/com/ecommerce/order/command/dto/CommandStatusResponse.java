@@ -0,0 +1,25 @@
+package com.ecommerce.order.command.dto;
+
+import com.ecommerce.order.command.entity.CommandStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommandStatusResponse {
+
+    private UUID commandId;
+    private String commandType;
+    private CommandStatus status;
+    private UUID resultId;
+    private String error;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
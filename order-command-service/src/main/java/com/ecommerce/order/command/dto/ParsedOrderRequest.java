@@ -0,0 +1,44 @@
+package com.ecommerce.order.command.dto;
+
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pedido já validado e convertido em value objects, pronto para Order.createOrder.
+ */
+public record ParsedOrderRequest(CustomerId customerId, List<OrderItem> items) {
+
+    // Conversão do DTO (binding do Jackson + @Valid) para os value objects do domínio
+    public static ParsedOrderRequest from(OrderRequest request) {
+        List<OrderItem> items = new ArrayList<>(request.getItems().size());
+        for (OrderRequest.OrderItemRequest item : request.getItems()) {
+            items.add(OrderItem.create(
+                    item.getProductId(),
+                    item.getProductName(),
+                    item.getQuantity(),
+                    Money.of(item.getUnitPrice())));
+        }
+        return new ParsedOrderRequest(new CustomerId(request.getCustomerId()), items);
+    }
+
+    // Formato persistido pelo modo assíncrono (payload do CommandEntry)
+    public OrderRequest toOrderRequest() {
+        List<OrderRequest.OrderItemRequest> itemRequests = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            itemRequests.add(OrderRequest.OrderItemRequest.builder()
+                    .productId(item.getProductId().getValue())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity().getValue())
+                    .unitPrice(item.getUnitPrice().getAmount())
+                    .build());
+        }
+        return OrderRequest.builder()
+                .customerId(customerId.getValue())
+                .items(itemRequests)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.order.command.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Partição de eventos exportada para disco e removida do banco.
+ * O registro fica no banco para que o carregamento de agregados saiba onde procurar o histórico antigo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "archived_segments", indexes = {
+    @Index(name = "idx_archived_segment_partition", columnList = "partitionName", unique = true)
+})
+public class ArchivedSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 63)
+    private String partitionName;
+
+    // Intervalo [rangeStart, rangeEnd) de createdAt coberto pelo segmento
+    @Column(nullable = false)
+    private Instant rangeStart;
+
+    @Column(nullable = false)
+    private Instant rangeEnd;
+
+    @Column(nullable = false, length = 1024)
+    private String path;
+
+    @Column(nullable = false, length = 1024)
+    private String indexPath;
+
+    @Column(nullable = false)
+    private Long eventCount;
+
+    @Column(nullable = false, updatable = false)
+    private Instant archivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (archivedAt == null) {
+            archivedAt = Instant.now();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.order.command.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Comando aceito pelo modo assíncrono. Persistido antes do 202 para sobreviver a restarts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "commands", indexes = {
+    @Index(name = "idx_command_status", columnList = "status")
+})
+public class CommandEntry {
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String commandType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CommandStatus status;
+
+    // Id do agregado criado/alterado pelo comando
+    private UUID resultId;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    // Instância que reivindicou o comando e até quando; lease vencido libera a retomada por outra
+    @Column(length = 64)
+    private String owner;
+
+    private Instant leaseUntil;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
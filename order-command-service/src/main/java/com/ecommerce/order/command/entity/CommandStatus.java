@@ -0,0 +1,8 @@
+package com.ecommerce.order.command.entity;
+
+public enum CommandStatus {
+    ACCEPTED,    // Persistido e aguardando execução
+    PROCESSING,  // Em execução
+    SUCCEEDED,   // Eventos commitados; resultId contém o id do agregado
+    FAILED       // Execução falhou; error contém o motivo
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.order.command.entity;
 
+import com.ecommerce.shared.codec.JsonEventCodec;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,24 +17,43 @@ import java.util.UUID;
 @Entity
 @Table(name = "events", indexes = {
     @Index(name = "idx_aggregate_id", columnList = "aggregateId"),
+    // Controle de concorrência otimista: duas gravações da mesma versão de um agregado não coexistem
+    @Index(name = "uk_events_aggregate_version", columnList = "aggregateId, version", unique = true),
     @Index(name = "idx_event_type", columnList = "eventType"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_events_global_position", columnList = "globalPosition")
 })
 public class Event {
 
+    // Sequence com alocação em bloco (pooled): IDENTITY desabilita o batch de inserts do Hibernate
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
+    // Posição global atribuída pelo banco no INSERT (identity sem cache): cresce na ordem de inserção
+    // entre todas as instâncias, ao contrário do id, que sai de blocos de 50 reservados por instância
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT GENERATED BY DEFAULT AS IDENTITY")
+    private Long globalPosition;
+
     @Column(nullable = false, updatable = false)
     private UUID aggregateId;
 
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Payload de codecs textuais (JSON); nulo quando o codec é binário
+    @Column(columnDefinition = "TEXT")
     private String eventData;
 
+    // Payload de codecs binários (Smile, CBOR, Avro); bytea no PostgreSQL
+    @Column(length = 16 * 1024 * 1024)
+    private byte[] eventPayload;
+
+    // Id do EventCodec usado neste registro (históricos mistos continuam decodificáveis)
+    @Column(nullable = false, length = 16)
+    private String codec;
+
     @Column(nullable = false)
     private UUID correlationId;
 
@@ -51,5 +71,8 @@ public class Event {
         if (createdAt == null) {
             createdAt = Instant.now();
         }
+        if (codec == null) {
+            codec = JsonEventCodec.ID;
+        }
     }
 }
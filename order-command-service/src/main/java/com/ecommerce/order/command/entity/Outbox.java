@@ -1,5 +1,6 @@
 package com.ecommerce.order.command.entity;
 
+import com.ecommerce.shared.codec.JsonEventCodec;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,8 +21,10 @@ import java.util.UUID;
 })
 public class Outbox {
 
+    // Sequence com alocação em bloco (pooled): IDENTITY desabilita o batch de inserts do Hibernate
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, updatable = false)
@@ -33,9 +36,18 @@ public class Outbox {
     @Column(nullable = false)
     private String eventType;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Legado: payload JSON de registros gravados antes de eventPayload valer para todos os codecs
+    @Column(columnDefinition = "TEXT")
     private String eventData;
 
+    // Payload serializado com o codec do registro (JSON, Smile, CBOR, Avro); bytea no PostgreSQL
+    @Column(length = 16 * 1024 * 1024)
+    private byte[] eventPayload;
+
+    // Id do EventCodec usado neste registro (históricos mistos continuam decodificáveis)
+    @Column(nullable = false, length = 16)
+    private String codec;
+
     @Column(nullable = false)
     private UUID correlationId;
 
@@ -58,6 +70,9 @@ public class Outbox {
         if (createdAt == null) {
             createdAt = Instant.now();
         }
+        if (codec == null) {
+            codec = JsonEventCodec.ID;
+        }
         if (processed == null) {
             processed = false;
         }
@@ -0,0 +1,10 @@
+package com.ecommerce.order.command.exception;
+
+import java.util.UUID;
+
+public class CommandNotFoundException extends BusinessException {
+
+    public CommandNotFoundException(UUID commandId) {
+        super("COMMAND_NOT_FOUND", String.format("Command with ID %s not found", commandId));
+    }
+}
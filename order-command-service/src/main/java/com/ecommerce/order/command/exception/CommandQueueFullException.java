@@ -0,0 +1,14 @@
+package com.ecommerce.order.command.exception;
+
+import lombok.Getter;
+
+@Getter
+public class CommandQueueFullException extends BusinessException {
+
+    private final int retryAfterSeconds;
+
+    public CommandQueueFullException(int retryAfterSeconds) {
+        super("COMMAND_QUEUE_FULL", "Too many pending commands, retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
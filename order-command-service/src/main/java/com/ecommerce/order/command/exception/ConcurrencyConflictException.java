@@ -0,0 +1,28 @@
+package com.ecommerce.order.command.exception;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+// Outro comando gravou no agregado depois que ele foi carregado (versão esperada != versão atual)
+@Getter
+public class ConcurrencyConflictException extends BusinessException {
+
+    private final UUID aggregateId;
+    private final int expectedVersion;
+
+    public ConcurrencyConflictException(UUID aggregateId, int expectedVersion) {
+        super("CONCURRENCY_CONFLICT",
+                String.format("Aggregate %s was modified concurrently (expected version %d)", aggregateId, expectedVersion));
+        this.aggregateId = aggregateId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public ConcurrencyConflictException(UUID aggregateId, int expectedVersion, Throwable cause) {
+        super("CONCURRENCY_CONFLICT",
+                String.format("Aggregate %s was modified concurrently (expected version %d)", aggregateId, expectedVersion),
+                cause);
+        this.aggregateId = aggregateId;
+        this.expectedVersion = expectedVersion;
+    }
+}
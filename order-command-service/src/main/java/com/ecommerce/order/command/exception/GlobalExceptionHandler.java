@@ -2,6 +2,7 @@ package com.ecommerce.order.command.exception;
 
 import com.ecommerce.shared.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -16,6 +17,48 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(CommandQueueFullException.class)
+    public ResponseEntity<ApiResponse> handleCommandQueueFullException(CommandQueueFullException ex) {
+        log.warn("Command rejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS, Map.of("code", ex.getCode())));
+    }
+
+    @ExceptionHandler(CommandNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleCommandNotFoundException(CommandNotFoundException ex) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND, Map.of("code", ex.getCode())));
+    }
+
+    @ExceptionHandler(ConcurrencyConflictException.class)
+    public ResponseEntity<ApiResponse> handleConcurrencyConflictException(ConcurrencyConflictException ex) {
+        log.warn("Concurrency conflict: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.CONFLICT, Map.of("code", ex.getCode())));
+    }
+
+    @ExceptionHandler(OrderNotFoundException.class)
+    public ResponseEntity<ApiResponse> handleOrderNotFoundException(OrderNotFoundException ex) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.NOT_FOUND, Map.of("code", ex.getCode())));
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiResponse> handlePayloadTooLargeException(PayloadTooLargeException ex) {
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(ex.getMessage(), HttpStatus.PAYLOAD_TOO_LARGE, Map.of("code", ex.getCode())));
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse> handleBusinessException(BusinessException ex) {
         log.error("Business exception occurred: {} - {}", ex.getCode(), ex.getMessage());
@@ -44,6 +87,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("Validation failed", HttpStatus.BAD_REQUEST, errors));
     }
 
+    // Mesma resposta do @Valid para o corpo lido em streaming (OrderRequestReader)
+    @ExceptionHandler(RequestValidationException.class)
+    public ResponseEntity<ApiResponse> handleRequestValidationException(RequestValidationException ex) {
+        log.error("Validation exception occurred: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Validation failed", HttpStatus.BAD_REQUEST, ex.getErrors()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse> handleGenericException(Exception ex) {
         log.error("Unexpected exception occurred", ex);
@@ -0,0 +1,8 @@
+package com.ecommerce.order.command.exception;
+
+public class PayloadTooLargeException extends BusinessException {
+
+    public PayloadTooLargeException(long maxBytes) {
+        super("PAYLOAD_TOO_LARGE", String.format("Request body exceeds the limit of %d bytes", maxBytes));
+    }
+}
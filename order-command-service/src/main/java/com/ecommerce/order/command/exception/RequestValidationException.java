@@ -0,0 +1,19 @@
+package com.ecommerce.order.command.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Erros de validação por campo (mesmo formato do @Valid) detectados fora do binding do Spring.
+ */
+@Getter
+public class RequestValidationException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public RequestValidationException(Map<String, String> errors) {
+        super("Validation failed: " + errors);
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.ArchivedSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ArchivedSegmentRepository extends JpaRepository<ArchivedSegment, Long> {
+
+    boolean existsByPartitionName(String partitionName);
+
+    // Segmentos que terminam depois do instante: os únicos que podem ter eventos de um agregado criado nele
+    List<ArchivedSegment> findByRangeEndAfterOrderByRangeStartAsc(Instant instant);
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.CommandEntry;
+import com.ecommerce.order.command.entity.CommandStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CommandRepository extends JpaRepository<CommandEntry, UUID> {
+
+    // Aceitos e em processamento com lease vencido (ou sem lease, gravados antes dele existir)
+    @Query("SELECT c FROM CommandEntry c WHERE c.status = :accepted "
+            + "OR (c.status = :processing AND (c.leaseUntil IS NULL OR c.leaseUntil < :now)) ORDER BY c.createdAt")
+    List<CommandEntry> findRecoverable(@Param("accepted") CommandStatus accepted,
+                                       @Param("processing") CommandStatus processing,
+                                       @Param("now") Instant now);
+
+    // Reivindicação atômica: só uma instância passa de ACCEPTED (ou de lease vencido) para PROCESSING
+    @Modifying
+    @Query("UPDATE CommandEntry c SET c.status = :processing, c.owner = :owner, c.leaseUntil = :leaseUntil, "
+            + "c.updatedAt = :now WHERE c.id = :id AND (c.status = :accepted "
+            + "OR (c.status = :processing AND (c.leaseUntil IS NULL OR c.leaseUntil < :now)))")
+    int claim(@Param("id") UUID id,
+              @Param("accepted") CommandStatus accepted,
+              @Param("processing") CommandStatus processing,
+              @Param("owner") String owner,
+              @Param("leaseUntil") Instant leaseUntil,
+              @Param("now") Instant now);
+}
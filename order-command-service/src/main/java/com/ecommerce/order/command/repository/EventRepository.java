@@ -2,8 +2,25 @@ package com.ecommerce.order.command.repository;
 
 import com.ecommerce.order.command.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.UUID;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    List<Event> findByAggregateIdOrderByVersionAsc(UUID aggregateId);
+
+    List<Event> findByAggregateIdAndVersionGreaterThanOrderByVersionAsc(UUID aggregateId, Integer version);
+
+    // Versão atual do agregado (null quando não há eventos)
+    @Query("SELECT MAX(e.version) FROM Event e WHERE e.aggregateId = :aggregateId")
+    Integer findCurrentVersion(@Param("aggregateId") UUID aggregateId);
+
+    // Lock do agregado até o fim da transação (PostgreSQL); serializa a conferência de versão e o insert
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(CAST(:aggregateId AS text)))", nativeQuery = true)
+    Integer lockAggregate(@Param("aggregateId") UUID aggregateId);
 }
@@ -0,0 +1,26 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event Store usado pelo serviço de comandos. O backend padrão é o PostgreSQL (JpaEventStore);
+ * event-store.backend=mapped-file usa o log local em arquivos mapeados (MappedFileEventStore).
+ */
+public interface EventStore {
+
+    /**
+     * Grava atomicamente os eventos não commitados de um agregado (todos ou nenhum).
+     * expectedVersion é a versão do agregado quando foi carregado; se outro comando já gravou
+     * depois dela, lança ConcurrencyConflictException. 0 indica agregado recém-criado (id gerado
+     * pelo próprio comando): o backend JPA não consulta a versão e deixa o índice único para o commit.
+     */
+    void append(UUID aggregateId, int expectedVersion, List<Event> events);
+
+    /**
+     * Eventos do agregado com versão maior que afterVersion, em ordem de versão.
+     */
+    List<Event> readStream(UUID aggregateId, int afterVersion);
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.order.command.repository;
+
+import java.util.UUID;
+
+/**
+ * Filtro opcional da leitura do stream global; campos nulos não restringem.
+ */
+public record EventStreamFilter(String eventType, UUID aggregateId) {
+
+    private static final EventStreamFilter ALL = new EventStreamFilter(null, null);
+
+    public static EventStreamFilter all() {
+        return ALL;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura da tabela events em ordem de posição global, com paginação por keyset
+ * (global_position > :after ORDER BY global_position), sem passar pelo contexto de persistência.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventStreamRepository {
+
+    private static final String SELECT_EVENTS =
+            "SELECT global_position, id, aggregate_id, event_type, event_data, event_payload, codec, correlation_id, "
+                    + "causation_id, version, created_at FROM events WHERE global_position > ? AND global_position <= ?";
+
+    private static final RowMapper<Event> EVENT_MAPPER = (rs, rowNum) -> Event.builder()
+            .globalPosition(rs.getLong("global_position"))
+            .id(rs.getLong("id"))
+            .aggregateId(rs.getObject("aggregate_id", UUID.class))
+            .eventType(rs.getString("event_type"))
+            .eventData(rs.getString("event_data"))
+            .eventPayload(rs.getBytes("event_payload"))
+            .codec(rs.getString("codec"))
+            .correlationId(rs.getObject("correlation_id", UUID.class))
+            .causationId(rs.getObject("causation_id", UUID.class))
+            .version(rs.getInt("version"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Página de até limit eventos com afterPosition < posição <= upToPosition
+    public List<Event> findPage(long afterPosition, long upToPosition, EventStreamFilter filter, int limit) {
+        List<Object> args = new ArrayList<>(List.of(afterPosition, upToPosition));
+        String sql = withFilter(filter, args) + " ORDER BY global_position LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, EVENT_MAPPER, args.toArray());
+    }
+
+    /**
+     * Entrega ao consumer cada evento do intervalo sem materializar o resultado: o fetch size só vira
+     * cursor no servidor dentro de transação (autocommit desligado). limit <= 0 lê até upToPosition.
+     */
+    @Transactional(readOnly = true)
+    public long stream(long afterPosition, long upToPosition, EventStreamFilter filter, long limit,
+                       int fetchSize, Consumer<Event> consumer) {
+        List<Object> args = new ArrayList<>(List.of(afterPosition, upToPosition));
+        StringBuilder sql = new StringBuilder(withFilter(filter, args)).append(" ORDER BY global_position");
+        if (limit > 0) {
+            sql.append(" LIMIT ?");
+            args.add(limit);
+        }
+
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(EVENT_MAPPER.mapRow(rs, (int) count[0]));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Maior posição até a qual o stream não tem mais como mudar. A sequência é atribuída no INSERT mas
+     * as transações commitam fora de ordem, então um buraco pode ser um evento ainda por vir; ele só é
+     * considerado permanente (rollback) quando o evento seguinte foi criado antes de settledBefore.
+     * Só os eventos recentes são percorridos.
+     */
+    public long safePosition(Instant settledBefore) {
+        Timestamp cutoff = Timestamp.from(settledBefore);
+        Long recentFloor = jdbcTemplate.queryForObject(
+                "SELECT MIN(global_position) FROM events WHERE created_at > ?", Long.class, cutoff);
+        if (recentFloor == null) {
+            return headPosition();
+        }
+
+        long settled = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(global_position), 0) FROM events WHERE global_position < ?", Long.class, recentFloor);
+        return jdbcTemplate.query(
+                "SELECT global_position, created_at FROM events WHERE global_position >= ? ORDER BY global_position",
+                rs -> {
+                    long safe = settled;
+                    while (rs.next()) {
+                        long position = rs.getLong("global_position");
+                        if (position != safe + 1 && rs.getTimestamp("created_at").after(cutoff)) {
+                            break;
+                        }
+                        safe = position;
+                    }
+                    return safe;
+                }, recentFloor);
+    }
+
+    public long headPosition() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(global_position), 0) FROM events", Long.class);
+    }
+
+    private static String withFilter(EventStreamFilter filter, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT_EVENTS);
+        if (filter.eventType() != null) {
+            sql.append(" AND event_type = ?");
+            args.add(filter.eventType());
+        }
+        if (filter.aggregateId() != null) {
+            sql.append(" AND aggregate_id = ?");
+            args.add(filter.aggregateId());
+        }
+        return sql.toString();
+    }
+}
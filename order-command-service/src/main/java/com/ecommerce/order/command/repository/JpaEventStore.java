@@ -0,0 +1,81 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+// Participa da transação corrente: eventos e outbox são gravados no mesmo commit
+public class JpaEventStore implements EventStore {
+
+    static final String VERSION_INDEX = "uk_events_aggregate_version";
+
+    private final EventRepository eventRepository;
+    private final boolean lockAggregate;
+    private final ToIntFunction<UUID> archivedVersion;
+
+    public JpaEventStore(EventRepository eventRepository) {
+        this(eventRepository, false);
+    }
+
+    public JpaEventStore(EventRepository eventRepository, boolean lockAggregate) {
+        this(eventRepository, lockAggregate, aggregateId -> 0);
+    }
+
+    /**
+     * lockAggregate: a tabela particionada não tem uk_events_aggregate_version, então a conferência
+     * de versão roda sob um advisory lock do agregado (liberado no commit) em vez de contar com o índice.
+     * archivedVersion: maior versão do agregado nos segmentos arquivados (0 se não houver), usada quando
+     * todo o histórico já saiu das partições quentes.
+     */
+    public JpaEventStore(EventRepository eventRepository, boolean lockAggregate, ToIntFunction<UUID> archivedVersion) {
+        this.eventRepository = eventRepository;
+        this.lockAggregate = lockAggregate;
+        this.archivedVersion = archivedVersion;
+    }
+
+    @Override
+    public void append(UUID aggregateId, int expectedVersion, List<Event> events) {
+        // Agregado novo (id gerado agora): o índice único basta e os inserts continuam no batch do commit
+        if (expectedVersion == 0) {
+            eventRepository.saveAll(events);
+            return;
+        }
+
+        // Falha rápida no caso comum; a corrida entre a leitura e o insert fica com o índice único
+        // ou, sem ele, com o lock: quem espera só lê a versão depois do commit do outro
+        if (lockAggregate) {
+            eventRepository.lockAggregate(aggregateId);
+        }
+        Integer currentVersion = eventRepository.findCurrentVersion(aggregateId);
+        if (currentVersion == null) {
+            // Histórico inteiro arquivado: a versão atual está no índice do segmento
+            currentVersion = archivedVersion.applyAsInt(aggregateId);
+        }
+        if (currentVersion != expectedVersion) {
+            throw new ConcurrencyConflictException(aggregateId, expectedVersion);
+        }
+        try {
+            eventRepository.saveAllAndFlush(events);
+        } catch (DataIntegrityViolationException e) {
+            if (isVersionConflict(e)) {
+                throw new ConcurrencyConflictException(aggregateId, expectedVersion, e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Event> readStream(UUID aggregateId, int afterVersion) {
+        return eventRepository.findByAggregateIdAndVersionGreaterThanOrderByVersionAsc(aggregateId, afterVersion);
+    }
+
+    private static boolean isVersionConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(VERSION_INDEX);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.order.command.repository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Segmento do log mapeado em memória. Cada registro é [tamanho:int][crc32:int][payload];
+ * o espaço ainda não usado do arquivo pré-alocado é zero, e tamanho 0 marca o fim do segmento.
+ */
+final class LogSegment implements Closeable {
+
+    static final int HEADER_SIZE = 8;
+
+    private final int number;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private LogSegment(int number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.number = number;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static LogSegment open(int number, Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Segmentos existentes mantêm o tamanho com que foram criados
+        int mappedSize = channel.size() > 0 ? Math.toIntExact(channel.size()) : size;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        return new LogSegment(number, path, channel, buffer);
+    }
+
+    int number() {
+        return number;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean hasRoomFor(int payloadSize) {
+        return writePosition + HEADER_SIZE + payloadSize <= buffer.capacity();
+    }
+
+    static boolean fitsInSegment(int payloadSize, int segmentSize) {
+        return HEADER_SIZE + payloadSize <= segmentSize;
+    }
+
+    /**
+     * Grava o registro e devolve o offset. O tamanho é escrito por último: um crash no meio
+     * deixa tamanho 0 (fim do log) ou um CRC que não confere, descartado na recuperação.
+     */
+    int append(byte[] payload, boolean fsync) {
+        int offset = writePosition;
+        buffer.putInt(offset + 4, crc(payload, 0, payload.length));
+        buffer.put(offset + HEADER_SIZE, payload);
+        if (fsync) {
+            buffer.force(offset + 4, 4 + payload.length);
+        }
+        buffer.putInt(offset, payload.length);
+        if (fsync) {
+            buffer.force(offset, 4);
+        }
+        writePosition = offset + HEADER_SIZE + payload.length;
+        return offset;
+    }
+
+    byte[] read(int offset) {
+        byte[] payload = new byte[buffer.getInt(offset)];
+        buffer.get(offset + HEADER_SIZE, payload);
+        return payload;
+    }
+
+    /**
+     * Varre o segmento a partir do início, entregando cada registro válido. No primeiro registro
+     * incompleto ou com CRC inválido, zera o restante do arquivo e para: tudo depois dele é cauda perdida.
+     */
+    int recover(RecordVisitor visitor) {
+        int offset = 0;
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+                truncate(offset);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_SIZE, payload);
+            if (crc(payload, 0, length) != buffer.getInt(offset + 4)) {
+                truncate(offset);
+                break;
+            }
+            visitor.visit(offset, payload);
+            offset += HEADER_SIZE + length;
+        }
+        writePosition = offset;
+        return offset;
+    }
+
+    // Segmento fechado: posição de escrita no fim, nada mais é gravado nele
+    void seal() {
+        writePosition = buffer.capacity();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void truncate(int offset) {
+        for (int position = offset; position < buffer.capacity(); position++) {
+            buffer.put(position, (byte) 0);
+        }
+        buffer.force();
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int offset, byte[] payload);
+    }
+}
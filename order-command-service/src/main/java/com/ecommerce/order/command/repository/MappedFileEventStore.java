@@ -0,0 +1,303 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Event Store embarcado: log append-only em segmentos de tamanho fixo mapeados em memória.
+ *
+ * Cada append grava um único registro com todos os eventos do lote, então o lote é atômico:
+ * ou o CRC confere e todos os eventos existem, ou o registro é descartado na recuperação.
+ * O índice por agregado (agregado -> posições dos registros) fica em memória; segmentos fechados
+ * gravam seu índice em .idx, e no start só o segmento ativo (a cauda) é varrido.
+ *
+ * Não participa da transação JPA: com este backend, outbox e log não são gravados atomicamente.
+ * Indicado para deployments de borda e testes de carga, não para produção com PostgreSQL.
+ */
+@Slf4j
+public class MappedFileEventStore implements EventStore, Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsyncOnAppend;
+    private final List<LogSegment> segments = new ArrayList<>();
+    // Posição = número do segmento nos 32 bits altos, offset do registro nos baixos
+    private final Map<UUID, List<Long>> index = new HashMap<>();
+    // Versão atual por agregado, preenchida sob demanda para agregados vindos de segmentos fechados
+    private final Map<UUID, Integer> versions = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MappedFileEventStore(Path directory, int segmentSize, boolean fsyncOnAppend) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncOnAppend = fsyncOnAppend;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event log at " + directory, e);
+        }
+    }
+
+    @Override
+    public void append(UUID aggregateId, int expectedVersion, List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        byte[] record = encode(aggregateId, events);
+        if (!LogSegment.fitsInSegment(record.length, segmentSize)) {
+            throw new IllegalArgumentException("Event batch of " + record.length + " bytes exceeds segment size " + segmentSize);
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Escritor único: a conferência e o append acontecem sob o mesmo lock
+            if (currentVersion(aggregateId) != expectedVersion) {
+                throw new ConcurrencyConflictException(aggregateId, expectedVersion);
+            }
+            LogSegment active = segments.get(segments.size() - 1);
+            if (!active.hasRoomFor(record.length)) {
+                active = roll(active);
+            }
+            int offset = active.append(record, fsyncOnAppend);
+            index.computeIfAbsent(aggregateId, id -> new ArrayList<>()).add(position(active.number(), offset));
+            versions.put(aggregateId, events.stream().mapToInt(Event::getVersion).max().orElse(expectedVersion));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to event log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> readStream(UUID aggregateId, int afterVersion) {
+        List<Event> events = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (long position : index.getOrDefault(aggregateId, List.of())) {
+                byte[] record = segments.get(segmentOf(position)).read(offsetOf(position));
+                for (Event event : decode(record)) {
+                    if (event.getVersion() > afterVersion) {
+                        events.add(event);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        events.sort(Comparator.comparing(Event::getVersion));
+        return events;
+    }
+
+    private int currentVersion(UUID aggregateId) {
+        return versions.computeIfAbsent(aggregateId, id -> {
+            int version = 0;
+            for (long position : index.getOrDefault(id, List.of())) {
+                for (Event event : decode(segments.get(segmentOf(position)).read(offsetOf(position)))) {
+                    version = Math.max(version, event.getVersion());
+                }
+            }
+            return version;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (LogSegment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            LogSegment segment = LogSegment.open(i, files.get(i), segmentSize);
+            segments.add(segment);
+            boolean last = i == files.size() - 1;
+            Path indexFile = indexFileOf(segment);
+            if (!last && Files.exists(indexFile)) {
+                loadIndex(segment, indexFile);
+                segment.seal();
+            } else {
+                int end = segment.recover((offset, record) ->
+                        index.computeIfAbsent(aggregateIdOf(record), id -> new ArrayList<>())
+                                .add(position(segment.number(), offset)));
+                log.info("Recovered event log segment {} up to offset {}", segment.path(), end);
+                if (!last) {
+                    writeIndex(segment);
+                    segment.seal();
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            segments.add(LogSegment.open(0, segmentPath(0), segmentSize));
+        }
+        log.info("Event log opened at {} with {} segments and {} aggregates", directory, segments.size(), index.size());
+    }
+
+    private LogSegment roll(LogSegment active) throws IOException {
+        active.force();
+        writeIndex(active);
+        active.seal();
+        LogSegment next = LogSegment.open(active.number() + 1, segmentPath(active.number() + 1), segmentSize);
+        segments.add(next);
+        log.debug("Event log rolled to segment {}", next.path());
+        return next;
+    }
+
+    // Entradas [agregado (2 longs), offset (int)] dos registros do segmento, escritas em .tmp e renomeadas
+    private void writeIndex(LogSegment segment) throws IOException {
+        Path indexFile = indexFileOf(segment);
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            for (Map.Entry<UUID, List<Long>> entry : index.entrySet()) {
+                for (long position : entry.getValue()) {
+                    if (segmentOf(position) == segment.number()) {
+                        out.writeLong(entry.getKey().getMostSignificantBits());
+                        out.writeLong(entry.getKey().getLeastSignificantBits());
+                        out.writeInt(offsetOf(position));
+                    }
+                }
+            }
+        }
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void loadIndex(LogSegment segment, Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            while (in.available() > 0) {
+                UUID aggregateId = new UUID(in.readLong(), in.readLong());
+                int offset = in.readInt();
+                index.computeIfAbsent(aggregateId, id -> new ArrayList<>()).add(position(segment.number(), offset));
+            }
+        }
+        // Posições de um mesmo agregado precisam ficar na ordem do log
+        index.values().forEach(positions -> positions.sort(Comparator.naturalOrder()));
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static Path indexFileOf(LogSegment segment) {
+        String name = segment.path().getFileName().toString();
+        return segment.path().resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> 32);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    private static UUID aggregateIdOf(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            return new UUID(in.readLong(), in.readLong());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Registro: agregado, quantidade e, por evento, os campos da tabela events (payload textual em UTF-8)
+    private static byte[] encode(UUID aggregateId, List<Event> events) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * events.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(aggregateId.getMostSignificantBits());
+            out.writeLong(aggregateId.getLeastSignificantBits());
+            out.writeInt(events.size());
+            for (Event event : events) {
+                Instant createdAt = event.getCreatedAt() != null ? event.getCreatedAt() : Instant.now();
+                out.writeInt(event.getVersion());
+                out.writeLong(createdAt.getEpochSecond());
+                out.writeInt(createdAt.getNano());
+                writeUuid(out, event.getCorrelationId());
+                writeUuid(out, event.getCausationId());
+                out.writeUTF(event.getEventType());
+                out.writeUTF(event.getCodec());
+                boolean text = event.getEventData() != null;
+                byte[] payload = text ? event.getEventData().getBytes(StandardCharsets.UTF_8) : event.getEventPayload();
+                out.writeBoolean(text);
+                out.writeInt(payload.length);
+                out.write(payload);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<Event> decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            UUID aggregateId = new UUID(in.readLong(), in.readLong());
+            int count = in.readInt();
+            List<Event> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Event.EventBuilder event = Event.builder()
+                        .aggregateId(aggregateId)
+                        .version(in.readInt())
+                        .createdAt(Instant.ofEpochSecond(in.readLong(), in.readInt()))
+                        .correlationId(readUuid(in))
+                        .causationId(readUuid(in))
+                        .eventType(in.readUTF())
+                        .codec(in.readUTF());
+                boolean text = in.readBoolean();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                if (text) {
+                    event.eventData(new String(payload, StandardCharsets.UTF_8));
+                } else {
+                    event.eventPayload(payload);
+                }
+                events.add(event.build());
+            }
+            return events;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
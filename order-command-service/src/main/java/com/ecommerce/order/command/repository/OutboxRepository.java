@@ -1,9 +1,44 @@
 package com.ecommerce.order.command.repository;
 
 import com.ecommerce.order.command.entity.Outbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 @Repository
 public interface OutboxRepository extends JpaRepository<Outbox, Long> {
+
+    // Lote pendente bloqueado até o fim da transação; lock timeout -2 = SKIP LOCKED, então outra
+    // instância do relay pega as linhas seguintes em vez de esperar (no H2 vira FOR UPDATE simples)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    // createdBefore deixa de fora os registros recentes que a publicação direta ainda pode confirmar.
+    // Ordem de inserção por createdAt: os ids vêm de blocos da sequence por instância e não a refletem
+    @Query("SELECT o FROM Outbox o WHERE o.processed = false AND o.createdAt < :createdBefore "
+            + "ORDER BY o.createdAt, o.id")
+    List<Outbox> claimUnprocessed(@Param("createdBefore") Instant createdBefore, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Outbox o SET o.processed = true, o.processedAt = :processedAt WHERE o.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") Instant processedAt);
+
+    long countByProcessedFalse();
+
+    boolean existsByAggregateIdAndProcessedFalse(UUID aggregateId);
+
+    // Momento de criação do registro pendente mais antigo (null quando não há pendentes)
+    @Query("SELECT MIN(o.createdAt) FROM Outbox o WHERE o.processed = false")
+    Instant findOldestUnprocessedCreatedAt();
 }
@@ -0,0 +1,105 @@
+package com.ecommerce.order.command.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Operações de particionamento por tempo (PostgreSQL, PARTITION BY RANGE em created_at).
+ * Partições mensais seguem o padrão {tabela}_pYYYY_MM e cobrem [primeiro dia do mês, primeiro dia do mês seguinte);
+ * diárias seguem {tabela}_pYYYY_MM_DD e cobrem [dia, dia seguinte).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionSupport {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY = Pattern.compile(".+_p(\\d{4})_(\\d{2})$");
+    private static final DateTimeFormatter DAY_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM_dd");
+    private static final Pattern DAILY = Pattern.compile(".+_p(\\d{4})_(\\d{2})_(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    // Mês coberto por uma partição, a partir do nome
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        Matcher matcher = MONTHLY.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+
+    public static String partitionName(String table, LocalDate day) {
+        return table + "_p" + day.format(DAY_SUFFIX);
+    }
+
+    // Dia coberto por uma partição diária, a partir do nome
+    public static Optional<LocalDate> dayOf(String partitionName) {
+        Matcher matcher = DAILY.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.of(Integer.parseInt(matcher.group(1)),
+                Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3))));
+    }
+
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    public List<String> listPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits "
+                        + "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent "
+                        + "JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                        + "WHERE parent.relname = ? ORDER BY child.relname",
+                String.class, table);
+    }
+
+    public void createMonthlyPartition(String table, YearMonth month) {
+        createRangePartition(table, partitionName(table, month), month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    public void createDailyPartition(String table, LocalDate day) {
+        createRangePartition(table, partitionName(table, day), day, day.plusDays(1));
+    }
+
+    // Usado antes de descartar uma partição (ex.: ainda há linhas pendentes?)
+    public boolean hasRows(String table, String condition) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                String.format("SELECT EXISTS (SELECT 1 FROM %s WHERE %s)", table, condition), Boolean.class);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public void detachPartition(String table, String partition) {
+        jdbcTemplate.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", table, partition));
+    }
+
+    public void dropTable(String table) {
+        jdbcTemplate.execute(String.format("DROP TABLE IF EXISTS %s", table));
+    }
+
+    private void createRangePartition(String table, String partition, LocalDate from, LocalDate to) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partition, table, from, to));
+        log.debug("Partition {} ensured for [{}, {})", partition, from, to);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Snapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SnapshotRepository extends JpaRepository<Snapshot, Long> {
+
+    Optional<Snapshot> findFirstByAggregateIdOrderByVersionDesc(UUID aggregateId);
+}
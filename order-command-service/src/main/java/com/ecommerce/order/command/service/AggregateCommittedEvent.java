@@ -0,0 +1,10 @@
+package com.ecommerce.order.command.service;
+
+import java.util.UUID;
+
+/**
+ * Evento de aplicação (Spring) publicado quando novos eventos de um agregado
+ * são persistidos no Event Store. Consumido após o commit da transação.
+ */
+public record AggregateCommittedEvent(String aggregateType, UUID aggregateId, int version) {
+}
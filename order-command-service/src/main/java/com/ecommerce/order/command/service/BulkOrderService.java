@@ -0,0 +1,210 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.BulkIngestionProperties;
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.dto.BulkOrderResult;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ingestão em lote de pedidos via NDJSON (um OrderRequest por linha).
+ *
+ * A entrada é lida linha a linha, sem carregar o corpo inteiro em memória. Os pedidos válidos
+ * são gravados em transações de até chunkSize pedidos e o resultado de cada linha é escrito
+ * na saída (também NDJSON) assim que o chunk correspondente é commitado.
+ */
+@Slf4j
+@Service
+public class BulkOrderService {
+
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final OrderService orderService;
+    private final EventWriter eventWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final BulkIngestionProperties properties;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+
+    public BulkOrderService(OrderService orderService,
+                            EventWriter eventWriter,
+                            TransactionTemplate transactionTemplate,
+                            Validator validator,
+                            BulkIngestionProperties properties,
+                            ObjectMapper objectMapper) {
+        this.orderService = orderService;
+        this.eventWriter = eventWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.properties = properties;
+        this.requestReader = objectMapper.readerFor(OrderRequest.class);
+        this.resultWriter = objectMapper.writerFor(BulkOrderResult.class);
+    }
+
+    public void ingest(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        int maxLineLength = properties.getMaxLineLength();
+        StringBuilder line = new StringBuilder();
+        List<PendingLine> chunk = new ArrayList<>();
+        long lineNumber = 0;
+        long received = 0;
+        long created = 0;
+
+        long length;
+        while ((length = readLine(reader, line, maxLineLength)) >= 0) {
+            lineNumber++;
+            if (line.toString().isBlank()) {
+                continue;
+            }
+
+            received++;
+            chunk.add(length > maxLineLength
+                    ? PendingLine.failed(BulkOrderResult.failure(lineNumber,
+                            "Line exceeds " + maxLineLength + " characters"))
+                    : parse(lineNumber, line.toString()));
+
+            // Linhas rejeitadas também contam: o chunk nunca passa de chunkSize entradas
+            if (chunk.size() >= properties.getChunkSize()) {
+                created += flush(chunk, output);
+                chunk.clear();
+            }
+        }
+        created += flush(chunk, output);
+
+        log.info("Bulk ingestion finished: {} orders created, {} lines rejected", created, received - created);
+    }
+
+    // Lê a próxima linha guardando no máximo maxLength + 1 caracteres; retorna o tamanho real ou -1 no fim da entrada
+    private static long readLine(BufferedReader reader, StringBuilder line, int maxLength) throws IOException {
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return -1;
+        }
+
+        long length = 0;
+        int last = -1;
+        while (c != -1 && c != '\n') {
+            if (line.length() <= maxLength) {
+                line.append((char) c);
+            }
+            length++;
+            last = c;
+            c = reader.read();
+        }
+
+        // Quebra de linha CRLF
+        if (last == '\r') {
+            length--;
+            if (line.length() > length) {
+                line.setLength((int) length);
+            }
+        }
+        return length;
+    }
+
+    private PendingLine parse(long lineNumber, String line) {
+        OrderRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return PendingLine.failed(BulkOrderResult.failure(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+        }
+
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new HashMap<>();
+            violations.forEach(violation ->
+                    errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            return PendingLine.failed(BulkOrderResult.invalid(lineNumber, errors));
+        }
+
+        try {
+            return new PendingLine(lineNumber, orderService.buildOrder(request), null);
+        } catch (IllegalArgumentException e) {
+            // Regras do domínio (ex: CustomerId, Money)
+            return PendingLine.failed(BulkOrderResult.failure(lineNumber, e.getMessage()));
+        }
+    }
+
+    // Grava os pedidos do chunk, escreve o resultado de cada linha e retorna quantos foram criados
+    private long flush(List<PendingLine> chunk, OutputStream output) throws IOException {
+        List<PendingLine> orders = chunk.stream().filter(pending -> pending.order() != null).toList();
+        List<BulkOrderResult> results = new ArrayList<>(chunk.size());
+
+        boolean chunkCommitted = orders.isEmpty() || writeChunk(orders);
+        long created = 0;
+        for (PendingLine pending : chunk) {
+            if (pending.order() == null) {
+                results.add(pending.result());
+                continue;
+            }
+            // Se a transação do chunk falhar, cada pedido é regravado isoladamente
+            BulkOrderResult result = chunkCommitted ? committed(pending) : writeIndividually(pending);
+            if (result.getOrderId() != null) {
+                created++;
+            }
+            results.add(result);
+        }
+
+        for (BulkOrderResult result : results) {
+            output.write(resultWriter.writeValueAsBytes(result));
+            output.write(NEW_LINE);
+        }
+        output.flush();
+        return created;
+    }
+
+    private boolean writeChunk(List<PendingLine> orders) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> orders.forEach(pending ->
+                    eventWriter.write("Order", pending.order().getUncommittedEvents())));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Bulk chunk of {} orders failed, retrying individually: {}", orders.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private BulkOrderResult writeIndividually(PendingLine pending) {
+        try {
+            eventWriter.write("Order", pending.order().getUncommittedEvents());
+            return committed(pending);
+        } catch (RuntimeException e) {
+            return BulkOrderResult.failure(pending.lineNumber(), e.getMessage());
+        }
+    }
+
+    private BulkOrderResult committed(PendingLine pending) {
+        orderService.afterCommit(pending.order());
+        return BulkOrderResult.success(pending.lineNumber(), pending.order().getId());
+    }
+
+    private record PendingLine(long lineNumber, Order order, BulkOrderResult result) {
+
+        static PendingLine failed(BulkOrderResult result) {
+            return new PendingLine(result.getLine(), null, result);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.AsyncCommandProperties;
+import com.ecommerce.order.command.dto.CommandStatusResponse;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.CommandEntry;
+import com.ecommerce.order.command.entity.CommandStatus;
+import com.ecommerce.order.command.exception.CommandNotFoundException;
+import com.ecommerce.order.command.exception.CommandQueueFullException;
+import com.ecommerce.order.command.repository.CommandRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.id.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Modo assíncrono de comandos: o comando é persistido na tabela commands (durável),
+ * a requisição recebe 202 e um executor limitado o processa em segundo plano.
+ *
+ * Antes de executar, a instância reivindica o comando com um UPDATE condicional (dono e lease):
+ * com várias instâncias, um restart só retoma comandos aceitos ou com lease vencido, nunca um que
+ * outra instância viva esteja processando.
+ */
+@Slf4j
+@Service
+public class CommandService {
+
+    static final String CREATE_ORDER = "CreateOrder";
+
+    private final CommandRepository commandRepository;
+    private final OrderService orderService;
+    private final ThreadPoolTaskExecutor commandExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncCommandProperties properties;
+    private final String instanceId = UuidV7.next().toString();
+
+    public CommandService(CommandRepository commandRepository,
+                          OrderService orderService,
+                          @Qualifier("commandExecutor") ThreadPoolTaskExecutor commandExecutor,
+                          TransactionTemplate transactionTemplate,
+                          AsyncCommandProperties properties) {
+        this.commandRepository = commandRepository;
+        this.orderService = orderService;
+        this.commandExecutor = commandExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    public UUID submitCreateOrder(OrderRequest orderRequest) {
+        // Backpressure antes de persistir: fila cheia não gera comando órfão
+        if (commandExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+            throw new CommandQueueFullException(properties.getRetryAfterSeconds());
+        }
+
+        CommandEntry entry = commandRepository.save(CommandEntry.builder()
+                .id(UuidV7.next())
+                .commandType(CREATE_ORDER)
+                .payload(JsonUtil.toJson(orderRequest))
+                .status(CommandStatus.ACCEPTED)
+                .build());
+
+        try {
+            commandExecutor.execute(() -> process(entry.getId()));
+        } catch (TaskRejectedException e) {
+            // Outra requisição ocupou a última vaga entre a checagem e o execute
+            commandRepository.deleteById(entry.getId());
+            throw new CommandQueueFullException(properties.getRetryAfterSeconds());
+        }
+
+        log.info("Command {} accepted for customer: {}", entry.getId(), orderRequest.getCustomerId());
+        return entry.getId();
+    }
+
+    public CommandStatusResponse getStatus(UUID commandId) {
+        CommandEntry entry = commandRepository.findById(commandId)
+                .orElseThrow(() -> new CommandNotFoundException(commandId));
+
+        return CommandStatusResponse.builder()
+                .commandId(entry.getId())
+                .commandType(entry.getCommandType())
+                .status(entry.getStatus())
+                .resultId(entry.getResultId())
+                .error(entry.getError())
+                .createdAt(entry.getCreatedAt())
+                .updatedAt(entry.getUpdatedAt())
+                .build();
+    }
+
+    void process(UUID commandId) {
+        if (!claim(commandId)) {
+            // Concluído, removido ou com outra instância dentro do lease
+            log.debug("Command {} not claimed, skipping", commandId);
+            return;
+        }
+        CommandEntry processing = commandRepository.findById(commandId).orElseThrow();
+
+        try {
+            OrderRequest orderRequest = JsonUtil.fromJson(processing.getPayload(), OrderRequest.class);
+
+            // Eventos e status SUCCEEDED no mesmo commit: um restart nunca reexecuta um comando concluído.
+            // Também com group commit ligado, já que o lote dele commitaria os eventos em separado
+            orderService.createOrderAndRecord(orderRequest, orderId -> {
+                processing.setStatus(CommandStatus.SUCCEEDED);
+                processing.setResultId(orderId);
+                commandRepository.save(processing);
+            });
+            log.debug("Command {} succeeded", commandId);
+        } catch (RuntimeException e) {
+            log.error("Command {} failed: {}", commandId, e.getMessage(), e);
+            processing.setStatus(CommandStatus.FAILED);
+            processing.setError(truncate(e.getMessage()));
+            commandRepository.save(processing);
+        }
+    }
+
+    // Mensagens de SQL e de constraint passam fácil do tamanho da coluna; estourá-la deixaria o comando em PROCESSING
+    private static String truncate(String message) {
+        if (message == null || message.length() <= CommandEntry.MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, CommandEntry.MAX_ERROR_LENGTH - 3) + "...";
+    }
+
+    private boolean claim(UUID commandId) {
+        Instant now = Instant.now();
+        Integer claimed = transactionTemplate.execute(status -> commandRepository.claim(commandId,
+                CommandStatus.ACCEPTED, CommandStatus.PROCESSING, instanceId, now.plus(properties.getLease()), now));
+        return claimed != null && claimed == 1;
+    }
+
+    // Retoma comandos aceitos ou com lease vencido que não chegaram a ser concluídos antes de um restart
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingCommands() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<CommandEntry> pending = commandRepository.findRecoverable(
+                CommandStatus.ACCEPTED, CommandStatus.PROCESSING, Instant.now());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.info("Recovering {} pending commands", pending.size());
+        for (int submitted = 0; submitted < pending.size(); submitted++) {
+            UUID commandId = pending.get(submitted).getId();
+            try {
+                commandExecutor.execute(() -> process(commandId));
+            } catch (TaskRejectedException e) {
+                // Continuam no banco sem reivindicação; serão retomados no próximo restart
+                log.warn("Command queue full while recovering, {} commands left pending",
+                        pending.size() - submitted);
+                return;
+            }
+        }
+    }
+}
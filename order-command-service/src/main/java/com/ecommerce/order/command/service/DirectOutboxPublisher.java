@@ -0,0 +1,150 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Caminho rápido do outbox: logo após o commit do EventWriter, publica no Kafka o payload já
+ * serializado, sem esperar o relay ou o CDC. Os registros confirmados são marcados como
+ * processados em lote; os que falharem continuam pendentes e saem pelo relay depois do
+ * período de carência. Depois de uma falha o agregado fica retido: os eventos seguintes dele
+ * também ficam para o relay, que os publica em ordem, até não restar nenhum pendente. Acks de
+ * eventos posteriores que chegarem depois da falha não são marcados, e o relay os republica.
+ * Consumidores precisam tolerar duplicatas (ack perdido, marcação atrasada) e, na janela entre
+ * um ack já marcado e a falha de um evento anterior do mesmo agregado, eventos fora de ordem.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "outbox.direct-publish", name = "enabled", havingValue = "true")
+public class DirectOutboxPublisher {
+
+    private static final int MARK_CHUNK_SIZE = 1000;
+
+    private final OutboxPublisher publisher;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Queue<Outbox> acknowledged = new ConcurrentLinkedQueue<>();
+    // Agregados com publicação direta falha: seguem pelo relay até ele alcançá-los
+    private final Set<UUID> held = ConcurrentHashMap.newKeySet();
+    private final Counter failed;
+
+    public DirectOutboxPublisher(OutboxPublisher publisher,
+                                 OutboxRepository outboxRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.failed = meterRegistry.counter("outbox.direct.failed");
+    }
+
+    // Chamado dentro da transação que gravou os registros; nada é enviado se ela fizer rollback
+    public void publishAfterCommit(List<Outbox> records) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(records);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(records);
+            }
+        });
+    }
+
+    private void publish(List<Outbox> records) {
+        for (Outbox record : records) {
+            if (held.contains(record.getAggregateId())) {
+                // Um evento anterior do agregado ainda está com o relay; publicar agora inverteria a ordem
+                continue;
+            }
+            try {
+                publisher.send(record).whenComplete((result, error) -> {
+                    if (error == null) {
+                        publisher.recordPublished(record, OutboxPublisher.MODE_DIRECT);
+                        acknowledged.add(record);
+                    } else {
+                        onFailure(record, error);
+                    }
+                });
+            } catch (RuntimeException e) {
+                onFailure(record, e);
+            }
+        }
+    }
+
+    // Fora da thread de I/O do producer: um UPDATE por lote de acks
+    @Scheduled(fixedDelayString = "${outbox.direct-publish.mark-interval:PT0.2S}")
+    public void markPublished() {
+        int drained;
+        do {
+            List<Long> ids = new ArrayList<>();
+            drained = drain(ids);
+            if (!ids.isEmpty()) {
+                mark(ids);
+            }
+        } while (drained == MARK_CHUNK_SIZE);
+        releaseCaughtUp();
+    }
+
+    private int drain(List<Long> ids) {
+        int drained = 0;
+        Outbox record;
+        while (drained < MARK_CHUNK_SIZE && (record = acknowledged.poll()) != null) {
+            drained++;
+            // Ack posterior à falha de um evento anterior: fica pendente para o relay republicar em ordem
+            if (!held.contains(record.getAggregateId())) {
+                ids.add(record.getId());
+            }
+        }
+        return drained;
+    }
+
+    // Solta os agregados cujos eventos pendentes o relay já publicou
+    private void releaseCaughtUp() {
+        for (UUID aggregateId : held) {
+            try {
+                if (!outboxRepository.existsByAggregateIdAndProcessedFalse(aggregateId)) {
+                    held.remove(aggregateId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to check pending outbox records of aggregate {}: {}", aggregateId, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void mark(List<Long> ids) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markProcessed(ids, Instant.now()));
+        } catch (RuntimeException e) {
+            // Já publicados: o relay vai republicar depois da carência (duplicata, não perda)
+            log.warn("Failed to mark {} directly published outbox records: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private void onFailure(Outbox record, Throwable error) {
+        held.add(record.getAggregateId());
+        failed.increment();
+        log.warn("Direct publish of outbox record {} ({} of aggregate {}) failed, leaving it to the relay: {}",
+                record.getId(), record.getEventType(), record.getAggregateId(), error.getMessage());
+    }
+}
@@ -0,0 +1,87 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.EventPartitioningProperties;
+import com.ecommerce.order.command.repository.ArchivedSegmentRepository;
+import com.ecommerce.order.command.repository.PartitionSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Manutenção das partições mensais de events: cria as partições futuras e arquiva em disco
+ * as que saíram da janela quente, removendo-as do banco.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventPartitionMaintenance {
+
+    static final String EVENTS_TABLE = "events";
+
+    private final PartitionSupport partitionSupport;
+    private final EventSegmentArchive archive;
+    private final ArchivedSegmentRepository segmentRepository;
+    private final EventPartitioningProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (properties.isEnabled()) {
+            ensureFuturePartitions();
+        }
+    }
+
+    @Scheduled(cron = "${event-store.partitioning.cron:0 0 3 * * *}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ensureFuturePartitions();
+        archiveColdPartitions();
+    }
+
+    public void ensureFuturePartitions() {
+        if (!partitionSupport.isPartitioned(EVENTS_TABLE)) {
+            log.warn("Table {} is not partitioned; run infra/database/events-partitioning.sql first", EVENTS_TABLE);
+            return;
+        }
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            partitionSupport.createMonthlyPartition(EVENTS_TABLE, current.plusMonths(i));
+        }
+    }
+
+    public void archiveColdPartitions() {
+        YearMonth oldestHot = YearMonth.now(ZoneOffset.UTC).minusMonths(properties.getHotMonths() - 1L);
+        for (String partition : partitionSupport.listPartitions(EVENTS_TABLE)) {
+            Optional<YearMonth> month = PartitionSupport.monthOf(partition);
+            if (month.isEmpty() || !month.get().isBefore(oldestHot)) {
+                continue;
+            }
+            try {
+                archive(partition, month.get());
+            } catch (RuntimeException e) {
+                // Partição continua anexada e será tentada de novo na próxima execução
+                log.error("Failed to archive partition {}: {}", partition, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void archive(String partition, YearMonth month) {
+        // Segmento já registrado: execução anterior caiu entre o export e o detach
+        if (!segmentRepository.existsByPartitionName(partition)) {
+            archive.export(partition, month);
+        }
+        partitionSupport.detachPartition(EVENTS_TABLE, partition);
+        if (properties.isDropAfterArchive()) {
+            partitionSupport.dropTable(partition);
+        }
+        log.info("Partition {} detached from {}", partition, EVENTS_TABLE);
+    }
+}
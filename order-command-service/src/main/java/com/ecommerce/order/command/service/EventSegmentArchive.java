@@ -0,0 +1,242 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.EventPartitioningProperties;
+import com.ecommerce.order.command.entity.ArchivedSegment;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.repository.ArchivedSegmentRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.id.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Segmentos frios do event store: cada partição arquivada vira um arquivo NDJSON comprimido
+ * (uma linha por evento, ordenado por agregado e versão) e um índice com os agregados presentes nele
+ * e a maior versão de cada um no segmento ("aggregateId versão" por linha).
+ */
+@Slf4j
+@Service
+public class EventSegmentArchive {
+
+    private static final String SELECT_PARTITION =
+            "SELECT id, aggregate_id, event_type, event_data, event_payload, codec, correlation_id, causation_id, "
+                    + "version, created_at FROM %s ORDER BY aggregate_id, version";
+
+    private final ArchivedSegmentRepository segmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventPartitioningProperties properties;
+    private final ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+    private final LoadingCache<String, Map<UUID, Integer>> indexes;
+
+    public EventSegmentArchive(ArchivedSegmentRepository segmentRepository,
+                               JdbcTemplate jdbcTemplate,
+                               EventPartitioningProperties properties) {
+        this.segmentRepository = segmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(properties.getIndexCacheSize())
+                .build(this::readIndex);
+    }
+
+    /**
+     * Exporta a partição para disco e registra o segmento. Os arquivos são escritos em .tmp e
+     * renomeados no final, então uma falha no meio não deixa segmento parcial registrado.
+     */
+    @Transactional
+    public ArchivedSegment export(String partition, YearMonth month) {
+        Path directory = Paths.get(properties.getArchiveDirectory());
+        Path segmentFile = directory.resolve(partition + ".ndjson.gz");
+        Path indexFile = directory.resolve(partition + ".ids");
+        Path segmentTmp = directory.resolve(partition + ".ndjson.gz.tmp");
+        Path indexTmp = directory.resolve(partition + ".ids.tmp");
+
+        long count;
+        try {
+            Files.createDirectories(directory);
+            try (Writer segment = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(segmentTmp)), StandardCharsets.UTF_8));
+                 Writer index = Files.newBufferedWriter(indexTmp, StandardCharsets.UTF_8)) {
+                count = streamPartition(partition, segment, index);
+            }
+            Files.move(segmentTmp, segmentFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(indexTmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // Uma reexportação da mesma partição substitui o índice que estiver em cache
+            indexes.invalidate(indexFile.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive partition " + partition, e);
+        }
+
+        ArchivedSegment archived = segmentRepository.save(ArchivedSegment.builder()
+                .partitionName(partition)
+                .rangeStart(month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC))
+                .rangeEnd(month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC))
+                .path(segmentFile.toString())
+                .indexPath(indexFile.toString())
+                .eventCount(count)
+                .build());
+        log.info("Archived partition {} with {} events to {}", partition, count, segmentFile);
+        return archived;
+    }
+
+    /**
+     * Eventos arquivados do agregado com afterVersion < version < beforeVersion, em ordem de versão.
+     * Um segmento só é descomprimido se pode conter o agregado e alguma versão posterior a afterVersion.
+     */
+    public List<Event> findEvents(UUID aggregateId, int afterVersion, int beforeVersion) {
+        List<Event> events = new ArrayList<>();
+        for (ArchivedSegment segment : segmentRepository.findByRangeEndAfterOrderByRangeStartAsc(createdAt(aggregateId))) {
+            Integer maxVersion = indexes.get(segment.getIndexPath()).get(aggregateId);
+            if (maxVersion == null || maxVersion <= afterVersion) {
+                continue;
+            }
+            for (Event event : readAggregate(segment, aggregateId)) {
+                if (event.getVersion() > afterVersion && event.getVersion() < beforeVersion) {
+                    events.add(event);
+                }
+            }
+        }
+        events.sort(Comparator.comparing(Event::getVersion));
+        return events;
+    }
+
+    /**
+     * Maior versão arquivada do agregado (0 se ele não está em nenhum segmento). Vem do índice; só
+     * índices antigos, sem a versão, obrigam a descomprimir o segmento.
+     */
+    public int findMaxVersion(UUID aggregateId) {
+        int max = 0;
+        for (ArchivedSegment segment : segmentRepository.findByRangeEndAfterOrderByRangeStartAsc(createdAt(aggregateId))) {
+            Integer maxVersion = indexes.get(segment.getIndexPath()).get(aggregateId);
+            if (maxVersion == null) {
+                continue;
+            }
+            if (maxVersion == Integer.MAX_VALUE) {
+                List<Event> events = readAggregate(segment, aggregateId);
+                maxVersion = events.isEmpty() ? 0 : events.get(events.size() - 1).getVersion();
+            }
+            max = Math.max(max, maxVersion);
+        }
+        return max;
+    }
+
+    // Nenhum evento de um agregado é anterior ao seu id (UUIDv7): segmentos que terminam antes ficam de fora.
+    // Ids de outras versões não carregam instante e consultam todos os segmentos
+    private static Instant createdAt(UUID aggregateId) {
+        return aggregateId.version() == 7 ? UuidV7.timestampOf(aggregateId) : Instant.EPOCH;
+    }
+
+    // Cursor no servidor (fetch size dentro de transação) para não materializar a partição em memória
+    private long streamPartition(String partition, Writer segment, Writer index) throws IOException {
+        long[] count = {0};
+        UUID[] lastAggregate = {null};
+        int[] lastVersion = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(String.format(SELECT_PARTITION, partition));
+            statement.setFetchSize(properties.getExportFetchSize());
+            return statement;
+        }, rs -> {
+            Event event = Event.builder()
+                    .id(rs.getLong("id"))
+                    .aggregateId(rs.getObject("aggregate_id", UUID.class))
+                    .eventType(rs.getString("event_type"))
+                    .eventData(rs.getString("event_data"))
+                    .eventPayload(rs.getBytes("event_payload"))
+                    .codec(rs.getString("codec"))
+                    .correlationId(rs.getObject("correlation_id", UUID.class))
+                    .causationId(rs.getObject("causation_id", UUID.class))
+                    .version(rs.getInt("version"))
+                    .createdAt(rs.getTimestamp("created_at").toInstant())
+                    .build();
+            try {
+                segment.write(objectMapper.writeValueAsString(event));
+                segment.write('\n');
+                // Linhas ordenadas por agregado e versão: a entrada do índice sai quando o bloco do agregado termina
+                if (lastAggregate[0] != null && !event.getAggregateId().equals(lastAggregate[0])) {
+                    writeIndexEntry(index, lastAggregate[0], lastVersion[0]);
+                }
+                lastAggregate[0] = event.getAggregateId();
+                lastVersion[0] = event.getVersion();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        if (lastAggregate[0] != null) {
+            writeIndexEntry(index, lastAggregate[0], lastVersion[0]);
+        }
+        return count[0];
+    }
+
+    private static void writeIndexEntry(Writer index, UUID aggregateId, int maxVersion) throws IOException {
+        index.write(aggregateId.toString());
+        index.write(' ');
+        index.write(Integer.toString(maxVersion));
+        index.write('\n');
+    }
+
+    // Eventos de um agregado são contíguos no segmento: a leitura para assim que o bloco termina
+    private List<Event> readAggregate(ArchivedSegment segment, UUID aggregateId) {
+        String needle = aggregateId.toString();
+        List<Event> events = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(Paths.get(segment.getPath()))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains(needle)) {
+                    if (!events.isEmpty()) {
+                        break;
+                    }
+                    continue;
+                }
+                Event event = objectMapper.readValue(line, Event.class);
+                if (aggregateId.equals(event.getAggregateId())) {
+                    events.add(event);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archived segment " + segment.getPath(), e);
+        }
+        return events;
+    }
+
+    // Índices antigos têm só o id: sem a versão, o segmento é sempre lido para esse agregado
+    private Map<UUID, Integer> readIndex(String indexPath) throws IOException {
+        Map<UUID, Integer> maxVersions = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(indexPath), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                int separator = line.indexOf(' ');
+                if (separator < 0) {
+                    maxVersions.put(UUID.fromString(line.trim()), Integer.MAX_VALUE);
+                } else {
+                    maxVersions.put(UUID.fromString(line.substring(0, separator)),
+                            Integer.parseInt(line.substring(separator + 1).trim()));
+                }
+            }
+        }
+        return maxVersions;
+    }
+}
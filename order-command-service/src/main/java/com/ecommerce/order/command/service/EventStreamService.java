@@ -0,0 +1,77 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.EventStreamProperties;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.repository.EventStreamFilter;
+import com.ecommerce.order.command.repository.EventStreamRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Stream global do event store, em ordem de global_position: replay de um intervalo e assinaturas
+ * que leem o histórico e depois seguem acompanhando os novos eventos. Base para reconstruir
+ * projeções direto do banco, sem depender da retenção dos tópicos do Kafka.
+ */
+@Slf4j
+@Service
+public class EventStreamService {
+
+    private final EventStreamRepository repository;
+    private final EventStreamProperties properties;
+    private final ScheduledExecutorService scheduler;
+
+    public EventStreamService(EventStreamRepository repository, EventStreamProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        AtomicInteger threads = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(properties.getSubscriberThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Até onde o stream pode ser lido sem risco de um evento em commit aparecer depois atrás da leitura
+    public long safePosition() {
+        return repository.safePosition(Instant.now().minus(properties.getGapTimeout()));
+    }
+
+    public long stream(long afterPosition, long upToPosition, EventStreamFilter filter, long limit,
+                       Consumer<Event> consumer) {
+        return repository.stream(afterPosition, upToPosition, filter, limit, properties.getFetchSize(), consumer);
+    }
+
+    /**
+     * Entrega ao handler, em ordem e na thread da assinatura, cada evento após fromPosition. O handler
+     * deve ser idempotente: se ele falhar, o mesmo evento é entregue de novo no próximo ciclo.
+     */
+    public EventStreamSubscription subscribe(long fromPosition, EventStreamFilter filter, Consumer<Event> handler) {
+        EventStreamSubscription subscription = new EventStreamSubscription(this, fromPosition, filter, handler);
+        subscription.start(scheduler.scheduleWithFixedDelay(subscription::poll,
+                0, properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS));
+        log.info("Event stream subscription started from position {} ({})", fromPosition, filter);
+        return subscription;
+    }
+
+    List<Event> page(long afterPosition, long upToPosition, EventStreamFilter filter) {
+        return repository.findPage(afterPosition, upToPosition, filter, properties.getPageSize());
+    }
+
+    int pageSize() {
+        return properties.getPageSize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
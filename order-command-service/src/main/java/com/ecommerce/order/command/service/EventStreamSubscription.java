@@ -0,0 +1,85 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.repository.EventStreamFilter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+/**
+ * Assinatura catch-up do stream global: lê o histórico página a página sem pausa e, ao alcançar a
+ * posição segura, passa a consultar a cada poll-interval (live). A posição avança a cada evento entregue.
+ */
+@Slf4j
+public class EventStreamSubscription implements AutoCloseable {
+
+    private final EventStreamService service;
+    private final EventStreamFilter filter;
+    private final Consumer<Event> handler;
+    private volatile long position;
+    private volatile boolean live;
+    private volatile boolean closed;
+    private volatile ScheduledFuture<?> task;
+
+    EventStreamSubscription(EventStreamService service, long fromPosition, EventStreamFilter filter,
+                            Consumer<Event> handler) {
+        this.service = service;
+        this.position = fromPosition;
+        this.filter = filter;
+        this.handler = handler;
+    }
+
+    // Última posição entregue (ou já verificada sem eventos do filtro)
+    public long position() {
+        return position;
+    }
+
+    // true depois que o histórico foi todo lido
+    public boolean isLive() {
+        return live;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    void start(ScheduledFuture<?> task) {
+        this.task = task;
+        if (closed) {
+            task.cancel(false);
+        }
+    }
+
+    void poll() {
+        try {
+            long upTo = service.safePosition();
+            while (!closed && position < upTo) {
+                List<Event> page = service.page(position, upTo, filter);
+                for (Event event : page) {
+                    if (closed) {
+                        return;
+                    }
+                    handler.accept(event);
+                    position = event.getGlobalPosition();
+                }
+                // Página incompleta: nada mais do filtro até upTo
+                if (page.size() < service.pageSize()) {
+                    position = upTo;
+                }
+            }
+            if (!live && !closed) {
+                live = true;
+                log.info("Event stream subscription caught up at position {} ({})", position, filter);
+            }
+        } catch (RuntimeException e) {
+            // Tenta de novo no próximo ciclo a partir do último evento entregue
+            log.error("Event stream subscription failed at position {}: {}", position, e.getMessage(), e);
+        }
+    }
+}
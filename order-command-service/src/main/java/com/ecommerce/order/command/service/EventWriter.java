@@ -0,0 +1,118 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.mapper.SerializedEvent;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.EventStore;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.codec.EventCodec;
+import com.ecommerce.shared.codec.EventCodecs;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Persiste os eventos não commitados de um agregado no Event Store e no Outbox.
+ * Cada evento é mapeado e serializado uma única vez (SerializedEvent) para as duas tabelas.
+ *
+ * Todas as linhas são enfileiradas no contexto de persistência e enviadas no flush
+ * como um único batch JDBC por tabela (hibernate.jdbc.batch_size + order_inserts).
+ * No PostgreSQL, reWriteBatchedInserts transforma cada batch em um INSERT multi-row.
+ */
+@Slf4j
+@Component
+public class EventWriter {
+
+    private final EventStore eventStore;
+    private final OutboxRepository outboxRepository;
+    private final IdempotencyService idempotencyService;
+    private final EventCodec codec;
+    private final DirectOutboxPublisher directPublisher;
+
+    public EventWriter(EventStore eventStore,
+                       OutboxRepository outboxRepository,
+                       IdempotencyService idempotencyService,
+                       @Value("${event-store.codec:json}") String codecId,
+                       ObjectProvider<DirectOutboxPublisher> directPublisher) {
+        this.eventStore = eventStore;
+        this.outboxRepository = outboxRepository;
+        this.idempotencyService = idempotencyService;
+        this.codec = EventCodecs.forId(codecId);
+        this.directPublisher = directPublisher.getIfAvailable();
+    }
+
+    @Transactional
+    public void write(String aggregateType, List<DomainEvent> domainEvents) {
+        write(aggregateType, domainEvents, null);
+    }
+
+    // Com idempotencyKey, a chave é gravada na mesma transação dos eventos
+    @Transactional
+    public void write(String aggregateType, List<DomainEvent> domainEvents, String idempotencyKey) {
+        if (idempotencyKey != null && !domainEvents.isEmpty()) {
+            idempotencyService.register(idempotencyKey, domainEvents.get(0).getAggregateId());
+        }
+
+        List<Event> events = new ArrayList<>(domainEvents.size());
+        List<Outbox> outboxRecords = new ArrayList<>(domainEvents.size());
+
+        for (DomainEvent domainEvent : domainEvents) {
+            SerializedEvent serialized = DomainEventMapper.serialize(domainEvent, codec);
+            events.add(toEvent(serialized));
+            outboxRecords.add(toOutbox(aggregateType, serialized));
+        }
+
+        // Um append por agregado: é a unidade atômica do EventStore; a versão esperada é a anterior ao primeiro evento
+        events.stream()
+                .collect(Collectors.groupingBy(Event::getAggregateId, LinkedHashMap::new, Collectors.toList()))
+                .forEach((aggregateId, aggregateEvents) ->
+                        eventStore.append(aggregateId, aggregateEvents.get(0).getVersion() - 1, aggregateEvents));
+        outboxRepository.saveAll(outboxRecords);
+        if (directPublisher != null) {
+            // Publicação direta após o commit (outbox.direct-publish); o outbox segue como garantia
+            directPublisher.publishAfterCommit(outboxRecords);
+        }
+
+        log.debug("{} events queued for Event Store and Outbox in a single batch", domainEvents.size());
+    }
+
+    private Event toEvent(SerializedEvent serialized) {
+        return Event.builder()
+                .aggregateId(serialized.aggregateId())
+                .eventType(serialized.eventType())
+                .eventData(serialized.textPayload())
+                .eventPayload(serialized.binary() ? serialized.payload() : null)
+                .codec(serialized.codec())
+                .correlationId(serialized.correlationId())
+                .causationId(serialized.causationId())
+                .version(serialized.version())
+                .createdAt(serialized.timestamp())
+                .build();
+    }
+
+    private Outbox toOutbox(String aggregateType, SerializedEvent serialized) {
+        return Outbox.builder()
+                .aggregateId(serialized.aggregateId())
+                .aggregateType(aggregateType)
+                .eventType(serialized.eventType())
+                // O outbox sempre grava os bytes em eventPayload, qualquer que seja o codec:
+                // é a coluna que o conector Debezium publica (o codec vai no header eventCodec)
+                .eventPayload(serialized.payload())
+                .codec(serialized.codec())
+                .correlationId(serialized.correlationId())
+                .causationId(serialized.causationId())
+                .version(serialized.version())
+                .createdAt(serialized.timestamp())
+                .processed(false)
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.GroupCommitProperties;
+import com.ecommerce.shared.domain.DomainEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit: comandos concorrentes entram em uma fila limitada e uma única thread
+ * os agrupa em uma transação (um commit/fsync para o lote inteiro).
+ *
+ * Cada chamador só recebe a resposta depois do commit compartilhado. Se a transação
+ * do lote falhar, os comandos são regravados individualmente para isolar o culpado.
+ */
+@Slf4j
+@Component
+public class GroupCommitWriter implements SmartLifecycle {
+
+    private final EventWriter eventWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitProperties properties;
+    private final BlockingQueue<PendingWrite> queue;
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public GroupCommitWriter(EventWriter eventWriter,
+                             TransactionTemplate transactionTemplate,
+                             GroupCommitProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.eventWriter = eventWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = DistributionSummary.builder("order.group_commit.batch.size")
+                .description("Comandos gravados por transação do group commit")
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder("order.group_commit.queue.delay")
+                .description("Tempo entre a submissão do comando e o início da transação do lote")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void write(String aggregateType, List<DomainEvent> events) {
+        write(aggregateType, events, null);
+    }
+
+    /**
+     * Enfileira os eventos e bloqueia até o commit do lote que os contém.
+     */
+    public void write(String aggregateType, List<DomainEvent> events, String idempotencyKey) {
+        if (!running) {
+            throw new IllegalStateException("Group commit writer is not running");
+        }
+
+        PendingWrite pending = new PendingWrite(
+                aggregateType, events, idempotencyKey, System.nanoTime(), new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing events for group commit", e);
+        }
+
+        try {
+            pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void runLoop() {
+        List<PendingWrite> batch = new ArrayList<>(properties.getMaxBatchSize());
+        // Após stop(), continua até esvaziar a fila: nenhum comando aceito fica sem resposta
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+
+        queue.drainTo(batch);
+        batch.forEach(pending -> pending.result().completeExceptionally(
+                new IllegalStateException("Group commit writer stopped")));
+    }
+
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + properties.getMaxLinger().toNanos();
+        while (batch.size() < properties.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        long now = System.nanoTime();
+        for (PendingWrite pending : batch) {
+            queueDelay.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingWrite pending : batch) {
+                    eventWriter.write(pending.aggregateType(), pending.events(), pending.idempotencyKey());
+                }
+            });
+            batch.forEach(pending -> pending.result().complete(null));
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} commands failed, retrying individually: {}", batch.size(), e.getMessage());
+            batch.forEach(this::commitIndividually);
+        }
+    }
+
+    private void commitIndividually(PendingWrite pending) {
+        try {
+            eventWriter.write(pending.aggregateType(), pending.events(), pending.idempotencyKey());
+            pending.result().complete(null);
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runLoop, "group-commit-writer");
+        writerThread.start();
+        log.info("Group commit enabled (maxBatchSize={}, maxLinger={})",
+                properties.getMaxBatchSize(), properties.getMaxLinger());
+    }
+
+    @Override
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        // Sem interrupt: uma transação em andamento termina normalmente
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record PendingWrite(String aggregateType,
+                                List<DomainEvent> events,
+                                String idempotencyKey,
+                                long enqueuedAt,
+                                CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.IdempotencyProperties;
+import com.ecommerce.order.command.entity.IdempotencyKey;
+import com.ecommerce.order.command.repository.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deduplicação por Idempotency-Key: cache em memória limitado na frente da tabela
+ * idempotency_keys, cuja chave primária é o árbitro final entre requisições concorrentes.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository repository;
+    private final EntityManager entityManager;
+    private final IdempotencyProperties properties;
+    private final Cache<String, UUID> cache;
+    private final Counter cacheHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    public IdempotencyService(IdempotencyKeyRepository repository,
+                              EntityManager entityManager,
+                              IdempotencyProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getRetention())
+                .build();
+        this.cacheHits = lookupCounter(meterRegistry, "cache_hit");
+        this.databaseHits = lookupCounter(meterRegistry, "db_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    public Optional<UUID> find(String key) {
+        UUID cached = cache.getIfPresent(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<UUID> stored = repository.findById(key).map(IdempotencyKey::getAggregateId);
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            cache.put(key, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    // Deve rodar na mesma transação que grava os eventos: chave e eventos commitam juntos.
+    // persist (e não save/merge) evita um SELECT extra; duplicidade falha no flush pela PK
+    public void register(String key, UUID aggregateId) {
+        entityManager.persist(IdempotencyKey.builder()
+                .key(key)
+                .aggregateId(aggregateId)
+                .build());
+    }
+
+    // Chamado após o commit, para que retries na mesma instância não precisem ir ao banco
+    public void remember(String key, UUID aggregateId) {
+        cache.put(key, aggregateId);
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = repository.deleteCreatedBefore(Instant.now().minus(properties.getRetention()));
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.idempotency.lookups")
+                .description("Consultas de Idempotency-Key por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.ConcurrencyProperties;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Reexecuta um comando quando o append encontra conflito de versão. Cada tentativa precisa
+ * recarregar o agregado: repetir o append com os mesmos eventos conflitaria de novo.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetry {
+
+    private final ConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T execute(String aggregateType, Supplier<T> command) {
+        Duration backoff = properties.getInitialBackoff();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = command.get();
+                attempts(aggregateType).record(attempt);
+                return result;
+            } catch (ConcurrencyConflictException e) {
+                meterRegistry.counter("order.concurrency.conflicts", "aggregate", aggregateType).increment();
+                if (attempt >= properties.getMaxAttempts()) {
+                    meterRegistry.counter("order.concurrency.retries.exhausted", "aggregate", aggregateType).increment();
+                    attempts(aggregateType).record(attempt);
+                    log.warn("Giving up on {} {} after {} conflicting attempts", aggregateType, e.getAggregateId(), attempt);
+                    throw e;
+                }
+                log.debug("Conflict on {} {} (attempt {}), retrying", aggregateType, e.getAggregateId(), attempt);
+                sleep(backoff, e);
+                backoff = backoff.multipliedBy(2).compareTo(properties.getMaxBackoff()) > 0
+                        ? properties.getMaxBackoff()
+                        : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    // Jitter entre metade e o valor cheio: evita que os perdedores colidam de novo em sincronia
+    private static void sleep(Duration backoff, ConcurrencyConflictException conflict) {
+        long millis = backoff.toMillis();
+        try {
+            Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private DistributionSummary attempts(String aggregateType) {
+        return DistributionSummary.builder("order.concurrency.attempts")
+                .tag("aggregate", aggregateType)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.AggregateCacheProperties;
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.snapshot.OrderSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache em memória dos pedidos já hidratados, guardados como OrderSnapshot (estado + versão).
+ * Cada load monta um Order novo a partir do snapshot, então dois comandos concorrentes nunca
+ * compartilham a mesma instância mutável; conflitos continuam sendo resolvidos pelo Event Store.
+ */
+@Component
+public class OrderAggregateCache {
+
+    static final String CACHE_NAME = "order-aggregates";
+
+    private final boolean enabled;
+    private final Cache<UUID, OrderSnapshot> cache;
+
+    public OrderAggregateCache(AggregateCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight())
+                .weigher((UUID orderId, OrderSnapshot snapshot) -> 1 + snapshot.getItems().size())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+        // cache.gets (hit/miss), cache.evictions e cache.size no /actuator/prometheus
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<OrderSnapshot> get(UUID orderId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(orderId));
+    }
+
+    // Dentro de uma transação, só entra no cache depois do commit (rollback não deixa pedido fantasma)
+    public void advance(Order order) {
+        if (!enabled) {
+            return;
+        }
+        OrderSnapshot snapshot = order.toSnapshot();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(snapshot);
+                }
+            });
+        } else {
+            put(snapshot);
+        }
+    }
+
+    // Só avança: um load atrasado não substitui uma versão mais nova gravada por outro comando
+    private void put(OrderSnapshot snapshot) {
+        cache.asMap().merge(snapshot.getOrderId(), snapshot,
+                (cached, candidate) -> candidate.getVersion() > cached.getVersion() ? candidate : cached);
+    }
+
+    public void invalidate(UUID orderId) {
+        cache.invalidate(orderId);
+    }
+}
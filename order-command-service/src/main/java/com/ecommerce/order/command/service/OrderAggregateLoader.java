@@ -0,0 +1,118 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.snapshot.OrderSnapshot;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.entity.Snapshot;
+import com.ecommerce.order.command.repository.EventStore;
+import com.ecommerce.order.command.repository.SnapshotRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import com.ecommerce.shared.domain.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderAggregateLoader {
+
+    private final EventStore eventStore;
+    private final SnapshotRepository snapshotRepository;
+    private final EventSegmentArchive archive;
+    private final OrderAggregateCache aggregateCache;
+    private final MeterRegistry meterRegistry;
+
+    // Ordem de procura: cache em memória, último snapshot persistido, histórico completo
+    @Transactional(readOnly = true)
+    public Optional<Order> load(UUID orderId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String source = "events";
+        Optional<Order> order;
+
+        Optional<OrderSnapshot> cached = aggregateCache.get(orderId);
+        if (cached.isPresent()) {
+            source = "cache";
+            order = Optional.of(loadFromCache(orderId, cached.get()));
+        } else {
+            Optional<Snapshot> snapshot = snapshotRepository.findFirstByAggregateIdOrderByVersionDesc(orderId);
+            if (snapshot.isPresent()) {
+                source = "snapshot";
+            }
+            order = loadFromStore(orderId, snapshot);
+            order.ifPresent(aggregateCache::advance);
+        }
+
+        sample.stop(meterRegistry.timer("order.aggregate.load", "source", order.isPresent() ? source : "not_found"));
+        return order;
+    }
+
+    // Hit: apenas os eventos mais novos que a versão em cache são lidos
+    private Order loadFromCache(UUID orderId, OrderSnapshot cached) {
+        List<DomainEvent> newer = toDomainEvents(history(orderId, cached.getVersion(), false));
+        Order order = Order.fromSnapshot(cached, newer);
+        if (!newer.isEmpty()) {
+            log.debug("Order {} advanced from cached v{} by {} events", orderId, cached.getVersion(), newer.size());
+            aggregateCache.advance(order);
+        }
+        return order;
+    }
+
+    // Carrega o último snapshot (se houver) e aplica apenas os eventos posteriores a ele
+    private Optional<Order> loadFromStore(UUID orderId, Optional<Snapshot> snapshot) {
+        int snapshotVersion = snapshot.map(Snapshot::getVersion).orElse(0);
+        List<DomainEvent> events = toDomainEvents(history(orderId, snapshotVersion, true));
+
+        if (snapshot.isPresent()) {
+            log.debug("Loading order {} from snapshot v{} plus {} events", orderId, snapshotVersion, events.size());
+            OrderSnapshot state = JsonUtil.fromJson(snapshot.get().getSnapshotData(), OrderSnapshot.class);
+            return Optional.of(Order.fromSnapshot(state, events));
+        }
+
+        if (events.isEmpty()) {
+            return Optional.empty();
+        }
+        log.debug("Loading order {} from full history of {} events", orderId, events.size());
+        return Optional.of(Order.fromHistory(events));
+    }
+
+    private static List<DomainEvent> toDomainEvents(List<Event> events) {
+        return events.stream()
+                .map(event -> DomainEventMapper.toDomainEvent(
+                        event.getEventType(), event.getCodec(), event.getEventData(), event.getEventPayload()))
+                .collect(Collectors.toList());
+    }
+
+    // Eventos após a versão base; se o primeiro evento quente não é o seguinte a ela, o começo está arquivado.
+    // Sem eventos quentes, o arquivo só é consultado se a base pode ser antiga (snapshot persistido ou nenhuma)
+    private List<Event> history(UUID orderId, int snapshotVersion, boolean archiveWhenNoHotEvents) {
+        List<Event> hot = eventStore.readStream(orderId, snapshotVersion);
+        if (!hot.isEmpty() && hot.get(0).getVersion() == snapshotVersion + 1) {
+            return hot;
+        }
+        if (hot.isEmpty() && !archiveWhenNoHotEvents) {
+            return hot;
+        }
+
+        int firstHotVersion = hot.isEmpty() ? Integer.MAX_VALUE : hot.get(0).getVersion();
+        List<Event> archived = archive.findEvents(orderId, snapshotVersion, firstHotVersion);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        log.debug("Order {} has {} events in archived segments", orderId, archived.size());
+        List<Event> events = new ArrayList<>(archived.size() + hot.size());
+        events.addAll(archived);
+        events.addAll(hot);
+        return events;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecommerce.order.command.service;
+
+import java.util.UUID;
+
+/**
+ * Resultado de createOrder com Idempotency-Key: replayed indica que o pedido já existia.
+ */
+public record OrderCreationResult(UUID orderId, boolean replayed) {
+}
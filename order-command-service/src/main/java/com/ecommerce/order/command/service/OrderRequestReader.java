@@ -0,0 +1,277 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OrderRequestProperties;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.exception.BusinessException;
+import com.ecommerce.order.command.exception.PayloadTooLargeException;
+import com.ecommerce.order.command.exception.RequestValidationException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê o JSON de criação de pedido token a token e monta os OrderItem direto, sem o grafo intermediário
+ * de OrderRequest/OrderItemRequest. Os erros por campo (chaves e mensagens) são os mesmos das anotações
+ * de OrderRequest, e os limites de itens e de tamanho do corpo interrompem a leitura assim que estouram.
+ */
+@Component
+public class OrderRequestReader {
+
+    private static final BigDecimal MIN_UNIT_PRICE = new BigDecimal("0.01");
+
+    private final JsonFactory jsonFactory;
+    private final OrderRequestProperties properties;
+
+    public OrderRequestReader(ObjectMapper objectMapper, OrderRequestProperties properties) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.properties = properties;
+    }
+
+    // contentLength < 0 quando desconhecido (chunked): o limite é aplicado durante a leitura
+    public ParsedOrderRequest read(InputStream body, long contentLength) throws IOException {
+        long maxBytes = properties.getMaxBodySize().toBytes();
+        if (contentLength > maxBytes) {
+            throw new PayloadTooLargeException(maxBytes);
+        }
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(body, maxBytes))) {
+            return read(parser);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("MALFORMED_JSON", "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ParsedOrderRequest read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new BusinessException("MALFORMED_JSON", "Malformed JSON: expected an object");
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        String customerId = null;
+        List<OrderItem> items = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "customerId" -> customerId = readString(parser);
+                case "items" -> items = readItems(parser, errors);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (customerId == null || customerId.isBlank()) {
+            errors.put("customerId", "Customer ID is required");
+        }
+        if (items == null) {
+            errors.put("items", "Order must contain at least one item");
+        } else if (errors.isEmpty() && totalOutOfRange(items)) {
+            errors.put("items", "Order total is out of range");
+        }
+        if (!errors.isEmpty()) {
+            throw new RequestValidationException(errors);
+        }
+        return new ParsedOrderRequest(new CustomerId(customerId), items);
+    }
+
+    // null quando a lista está ausente ou vazia; itens só são montados enquanto não houver erro
+    private List<OrderItem> readItems(JsonParser parser, Map<String, String> errors) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new BusinessException("MALFORMED_JSON", "Malformed JSON: items must be an array");
+        }
+
+        List<OrderItem> items = new ArrayList<>();
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (index == properties.getMaxItems()) {
+                errors.put("items", "Order must contain at most " + properties.getMaxItems() + " items");
+                throw new RequestValidationException(errors);
+            }
+            OrderItem item = readItem(parser, index, errors);
+            if (item != null) {
+                items.add(item);
+            }
+            index++;
+        }
+        return index == 0 ? null : items;
+    }
+
+    private OrderItem readItem(JsonParser parser, int index, Map<String, String> errors) throws IOException {
+        String path = "items[" + index + "]";
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            errors.put(path, "Item is required");
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new BusinessException("MALFORMED_JSON", "Malformed JSON: " + path + " must be an object");
+        }
+
+        String productId = null;
+        String productName = null;
+        Integer quantity = null;
+        BigDecimal unitPrice = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "productId" -> productId = readString(parser);
+                case "productName" -> productName = readString(parser);
+                case "quantity" -> quantity = readInteger(parser);
+                case "unitPrice" -> unitPrice = readDecimal(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (productId == null || productId.isBlank()) {
+            errors.put(path + ".productId", "Product ID is required");
+        }
+        if (productName == null || productName.isBlank()) {
+            errors.put(path + ".productName", "Product name is required");
+        }
+        if (quantity == null) {
+            errors.put(path + ".quantity", "Quantity is required");
+        } else if (quantity < 1) {
+            errors.put(path + ".quantity", "Quantity must be at least 1");
+        }
+        if (unitPrice == null) {
+            errors.put(path + ".unitPrice", "Unit price is required");
+        } else if (unitPrice.compareTo(MIN_UNIT_PRICE) < 0) {
+            errors.put(path + ".unitPrice", "Unit price must be greater than 0");
+        }
+
+        // Com algum erro o pedido será rejeitado: não vale montar os value objects
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        // Money guarda centavos em long: fora do intervalo é o mesmo 400 dos outros valores inválidos
+        Money price;
+        try {
+            price = Money.of(unitPrice);
+        } catch (ArithmeticException e) {
+            errors.put(path + ".unitPrice", "Unit price is out of range");
+            return null;
+        }
+        try {
+            return OrderItem.create(productId, productName, quantity, price);
+        } catch (ArithmeticException e) {
+            errors.put(path, "Item subtotal is out of range");
+            return null;
+        }
+    }
+
+    // Mesma soma exata que Order.createOrder fará com os subtotais
+    private static boolean totalOutOfRange(List<OrderItem> items) {
+        long total = 0;
+        try {
+            for (OrderItem item : items) {
+                total = Math.addExact(total, item.getSubtotal().getMinorUnits());
+            }
+            return false;
+        } catch (ArithmeticException e) {
+            return true;
+        }
+    }
+
+    // Escalares viram texto, como na coerção padrão do Jackson para String
+    private static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new BusinessException("MALFORMED_JSON", "Malformed JSON: expected a string for " + parser.currentName());
+        }
+        return parser.getText();
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isNumeric()) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? null : Integer.valueOf(text);
+            } catch (NumberFormatException e) {
+                // segue para o erro de tipo abaixo
+            }
+        }
+        throw new BusinessException("MALFORMED_JSON", "Malformed JSON: expected an integer for " + parser.currentName());
+    }
+
+    private static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isNumeric()) {
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return text.isEmpty() ? null : new BigDecimal(text);
+            } catch (NumberFormatException e) {
+                // segue para o erro de tipo abaixo
+            }
+        }
+        throw new BusinessException("MALFORMED_JSON", "Malformed JSON: expected a number for " + parser.currentName());
+    }
+
+    // Conta os bytes lidos e interrompe a leitura quando o corpo passa do limite
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long maxBytes;
+        private long read;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > maxBytes) {
+                throw new PayloadTooLargeException(maxBytes);
+            }
+        }
+    }
+}
@@ -1,110 +1,156 @@
 package com.ecommerce.order.command.service;
 
+import com.ecommerce.order.command.config.GroupCommitProperties;
 import com.ecommerce.order.command.domain.Order;
-import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
-import com.ecommerce.order.command.domain.valueobject.CustomerId;
-import com.ecommerce.order.command.domain.valueobject.Money;
-import com.ecommerce.order.command.domain.valueobject.OrderItem;
 import com.ecommerce.order.command.dto.OrderRequest;
-import com.ecommerce.order.command.entity.Event;
-import com.ecommerce.order.command.entity.Outbox;
-import com.ecommerce.order.command.repository.EventRepository;
-import com.ecommerce.order.command.repository.OutboxRepository;
-import com.ecommerce.order.command.util.JsonUtil;
-import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.exception.BusinessException;
+import com.ecommerce.order.command.exception.OrderNotFoundException;
+import com.ecommerce.shared.id.UuidV7;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
-    private final EventRepository eventRepository;
-    private final OutboxRepository outboxRepository;
-
-    @Transactional
+    private final EventWriter eventWriter;
+    private final GroupCommitWriter groupCommitWriter;
+    private final GroupCommitProperties groupCommitProperties;
+    private final IdempotencyService idempotencyService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OrderAggregateLoader orderAggregateLoader;
+    private final OptimisticRetry optimisticRetry;
+    private final OrderAggregateCache aggregateCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // Sem @Transactional: a transação é aberta pelo EventWriter (ou pelo lote do group commit),
+    // evitando segurar uma conexão enquanto o comando espera na fila
     public UUID createOrder(OrderRequest orderRequest) {
-        UUID correlationId = UUID.randomUUID();
-        UUID causationId = UUID.randomUUID();
-        
-        log.info("Creating order for customer: {} with correlationId: {}", 
-                orderRequest.getCustomerId(), correlationId);
-
-        // Converter DTO para Value Objects
-        CustomerId customerId = new CustomerId(orderRequest.getCustomerId());
-        List<OrderItem> items = orderRequest.getItems().stream()
-                .map(item -> OrderItem.create(
-                        item.getProductId(),
-                        item.getProductName(),
-                        item.getQuantity(),
-                        Money.of(item.getUnitPrice())
-                ))
-                .collect(Collectors.toList());
+        return createOrder(orderRequest, null).orderId();
+    }
 
-        // Criar agregado Order (Event Sourcing)
-        Order order = Order.createOrder(customerId, items, correlationId, causationId);
+    // Com Idempotency-Key, um retry devolve o pedido original sem tocar no Event Store
+    public OrderCreationResult createOrder(OrderRequest orderRequest, String idempotencyKey) {
+        return createOrder(() -> buildOrder(orderRequest), idempotencyKey);
+    }
+
+    // Corpo já convertido em value objects durante o parse (OrderRequestReader)
+    public OrderCreationResult createOrder(ParsedOrderRequest orderRequest, String idempotencyKey) {
+        return createOrder(() -> buildOrder(orderRequest), idempotencyKey);
+    }
+
+    private OrderCreationResult createOrder(Supplier<Order> orderFactory, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<UUID> existing = idempotencyService.find(idempotencyKey);
+            if (existing.isPresent()) {
+                log.info("Idempotency-Key {} already used, returning order {}", idempotencyKey, existing.get());
+                return new OrderCreationResult(existing.get(), true);
+            }
+        }
+
+        Order order = orderFactory.get();
         UUID orderId = order.getId();
 
-        // Persistir eventos no Event Store
-        List<DomainEvent> uncommittedEvents = order.getUncommittedEvents();
-        for (DomainEvent domainEvent : uncommittedEvents) {
-            persistEvent(domainEvent);
-            persistOutbox(domainEvent);
+        // Persistir eventos no Event Store e no Outbox (um batch por tabela)
+        try {
+            if (groupCommitProperties.isEnabled()) {
+                groupCommitWriter.write("Order", order.getUncommittedEvents(), idempotencyKey);
+            } else {
+                eventWriter.write("Order", order.getUncommittedEvents(), idempotencyKey);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Requisição concorrente com a mesma chave venceu a corrida pelo índice único
+            if (idempotencyKey == null) {
+                throw e;
+            }
+            UUID winner = idempotencyService.find(idempotencyKey).orElseThrow(() -> e);
+            log.info("Idempotency-Key {} committed concurrently, returning order {}", idempotencyKey, winner);
+            return new OrderCreationResult(winner, true);
         }
 
-        // Marcar eventos como commitados
-        order.markEventsAsCommitted();
+        if (idempotencyKey != null) {
+            idempotencyService.remember(idempotencyKey, orderId);
+        }
+        afterCommit(order);
 
         log.info("Order created successfully with ID: {} and total amount: {}", 
                 orderId, order.getTotalAmount());
 
-        return orderId;
+        return new OrderCreationResult(orderId, false);
     }
 
-    private void persistEvent(DomainEvent domainEvent) {
-        Object externalEvent = DomainEventMapper.toExternalEvent(domainEvent);
-        String eventData = JsonUtil.toJson(externalEvent);
-
-        Event event = Event.builder()
-                .aggregateId(domainEvent.getAggregateId())
-                .eventType(domainEvent.getEventType())
-                .eventData(eventData)
-                .correlationId(domainEvent.getCorrelationId())
-                .causationId(domainEvent.getCausationId())
-                .version(domainEvent.getVersion())
-                .createdAt(domainEvent.getTimestamp())
-                .build();
-
-        eventRepository.save(event);
-        log.debug("Event {} saved to Event Store with ID: {}", 
-                domainEvent.getEventType(), event.getId());
+    // Eventos e a gravação do chamador (ex.: status do comando assíncrono) no mesmo commit. Não passa pelo
+    // group commit, cujo lote roda em outra thread e outra transação
+    public UUID createOrderAndRecord(OrderRequest orderRequest, Consumer<UUID> inSameTransaction) {
+        Order order = buildOrder(orderRequest);
+        transactionTemplate.executeWithoutResult(status -> {
+            eventWriter.write("Order", order.getUncommittedEvents());
+            inSameTransaction.accept(order.getId());
+        });
+        afterCommit(order);
+
+        log.info("Order created successfully with ID: {} and total amount: {}",
+                order.getId(), order.getTotalAmount());
+        return order.getId();
     }
 
-    private void persistOutbox(DomainEvent domainEvent) {
-        Object externalEvent = DomainEventMapper.toExternalEvent(domainEvent);
-        String eventData = JsonUtil.toJson(externalEvent);
-
-        Outbox outbox = Outbox.builder()
-                .aggregateId(domainEvent.getAggregateId())
-                .aggregateType("Order")
-                .eventType(domainEvent.getEventType())
-                .eventData(eventData)
-                .correlationId(domainEvent.getCorrelationId())
-                .causationId(domainEvent.getCausationId())
-                .version(domainEvent.getVersion())
-                .createdAt(domainEvent.getTimestamp())
-                .processed(false)
-                .build();
-
-        outboxRepository.save(outbox);
-        log.debug("Event {} saved to Outbox with ID: {}", 
-                domainEvent.getEventType(), outbox.getId());
+    // Cada tentativa recarrega o pedido; conflito de versão com outro comando dispara nova tentativa.
+    // O cancelamento mantém a correlação do pedido, a mesma que a saga recebeu no OrderCreated
+    public Order cancelOrder(UUID orderId, String reason) {
+        Order order = optimisticRetry.execute("Order", () -> {
+            Order current = orderAggregateLoader.load(orderId)
+                    .orElseThrow(() -> new OrderNotFoundException(orderId));
+            try {
+                current.cancel(reason, UuidV7.next());
+            } catch (IllegalStateException e) {
+                throw new BusinessException("ORDER_NOT_CANCELLABLE", e.getMessage());
+            }
+            eventWriter.write("Order", current.getUncommittedEvents());
+            return current;
+        });
+
+        afterCommit(order);
+        log.info("Order {} cancelled at version {}", orderId, order.getVersion());
+        return order;
+    }
+
+    // Cria o agregado com os eventos ainda não persistidos (usado também pela ingestão em lote)
+    public Order buildOrder(OrderRequest orderRequest) {
+        return buildOrder(ParsedOrderRequest.from(orderRequest));
+    }
+
+    public Order buildOrder(ParsedOrderRequest orderRequest) {
+        UUID correlationId = UuidV7.next();
+        UUID causationId = UuidV7.next();
+        
+        log.info("Creating order for customer: {} with correlationId: {}", 
+                orderRequest.customerId().getValue(), correlationId);
+
+        // Criar agregado Order (Event Sourcing)
+        return Order.createOrder(orderRequest.customerId(), orderRequest.items(), correlationId, causationId);
+    }
+
+    // Chamado depois que os eventos do agregado foram commitados
+    public void afterCommit(Order order) {
+        // Marcar eventos como commitados
+        order.markEventsAsCommitted();
+
+        // O próximo comando sobre o pedido parte desta versão sem reler o histórico
+        aggregateCache.advance(order);
+
+        // Snapshot (se necessário) é criado de forma assíncrona após o commit
+        applicationEventPublisher.publishEvent(
+                new AggregateCommittedEvent("Order", order.getId(), order.getVersion()));
     }
 }
@@ -0,0 +1,47 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Profundidade do outbox e idade do registro pendente mais antigo. Os valores são lidos do banco
+ * em intervalo fixo (não a cada scrape) e servidos pelos gauges a partir da última leitura.
+ */
+@Slf4j
+@Component
+public class OutboxMetrics {
+
+    private final OutboxRepository outboxRepository;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong oldestUnprocessedAgeMillis = new AtomicLong();
+
+    public OutboxMetrics(OutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        Gauge.builder("outbox.depth", depth, AtomicLong::get)
+                .description("Outbox records not yet published")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.unprocessed.age", oldestUnprocessedAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest unpublished outbox record")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval:PT15S}")
+    public void refresh() {
+        try {
+            depth.set(outboxRepository.countByProcessedFalse());
+            Instant oldest = outboxRepository.findOldestUnprocessedCreatedAt();
+            oldestUnprocessedAgeMillis.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh outbox metrics: {}", e.getMessage());
+        }
+    }
+}
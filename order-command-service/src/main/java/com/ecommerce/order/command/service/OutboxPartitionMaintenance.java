@@ -0,0 +1,79 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OutboxPartitioningProperties;
+import com.ecommerce.order.command.repository.PartitionSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Retenção do outbox por partição diária: cria as partições dos próximos dias e descarta as que
+ * saíram da janela de retenção, desde que não tenham nenhum registro pendente. Substitui o
+ * DELETE de registros processados (sem bloat, sem vacuum longo).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxPartitionMaintenance {
+
+    static final String OUTBOX_TABLE = "outbox";
+
+    private final PartitionSupport partitionSupport;
+    private final OutboxPartitioningProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (properties.isEnabled()) {
+            ensureFuturePartitions();
+        }
+    }
+
+    @Scheduled(cron = "${outbox.partitioning.cron:0 15 * * * *}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ensureFuturePartitions();
+        dropExpiredPartitions();
+    }
+
+    public void ensureFuturePartitions() {
+        if (!partitionSupport.isPartitioned(OUTBOX_TABLE)) {
+            log.warn("Table {} is not partitioned; run infra/database/outbox-partitioning.sql first", OUTBOX_TABLE);
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= properties.getDaysAhead(); i++) {
+            partitionSupport.createDailyPartition(OUTBOX_TABLE, today.plusDays(i));
+        }
+    }
+
+    public void dropExpiredPartitions() {
+        LocalDate oldestKept = LocalDate.now(ZoneOffset.UTC).minusDays(properties.getRetentionDays());
+        for (String partition : partitionSupport.listPartitions(OUTBOX_TABLE)) {
+            Optional<LocalDate> day = PartitionSupport.dayOf(partition);
+            if (day.isEmpty() || !day.get().isBefore(oldestKept)) {
+                continue;
+            }
+            // Partições passadas não recebem inserts; processed só vai de false para true
+            if (partitionSupport.hasRows(partition, "processed = false")) {
+                log.warn("Partition {} is past retention but still has unprocessed records; keeping it", partition);
+                continue;
+            }
+            try {
+                partitionSupport.detachPartition(OUTBOX_TABLE, partition);
+                partitionSupport.dropTable(partition);
+                log.info("Partition {} dropped from {}", partition, OUTBOX_TABLE);
+            } catch (RuntimeException e) {
+                log.error("Failed to drop partition {}: {}", partition, e.getMessage(), e);
+            }
+        }
+    }
+}
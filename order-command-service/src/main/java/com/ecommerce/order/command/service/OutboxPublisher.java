@@ -0,0 +1,78 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OutboxRelayProperties;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.shared.codec.EventCodecs;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Envio de um registro do outbox para o Kafka, compartilhado pelo relay e pela publicação direta.
+ * Mede o tempo entre a criação do evento e o ack do broker por caminho (outbox.publish.latency).
+ */
+@Component
+@ConditionalOnExpression("${outbox.relay.enabled:false} or ${outbox.direct-publish.enabled:false}")
+public class OutboxPublisher {
+
+    static final String EVENT_ID_HEADER = "id";
+    static final String EVENT_TYPE_HEADER = "eventType";
+
+    static final String MODE_DIRECT = "direct";
+    static final String MODE_RELAY = "relay";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final String topic;
+    private final Timer directLatency;
+    private final Timer relayLatency;
+
+    public OutboxPublisher(KafkaTemplate<String, byte[]> kafkaTemplate,
+                           OutboxRelayProperties relayProperties,
+                           MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = relayProperties.getTopic();
+        this.directLatency = latencyTimer(meterRegistry, MODE_DIRECT);
+        this.relayLatency = latencyTimer(meterRegistry, MODE_RELAY);
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(Outbox record) {
+        ProducerRecord<String, byte[]> message = new ProducerRecord<>(
+                topic,
+                record.getAggregateId().toString(),
+                payloadOf(record));
+        // Mesmos headers que o EventRouter do Debezium: os consumidores não percebem a troca
+        message.headers().add(EVENT_ID_HEADER, String.valueOf(record.getId()).getBytes(StandardCharsets.UTF_8));
+        message.headers().add(EVENT_TYPE_HEADER, record.getEventType().getBytes(StandardCharsets.UTF_8));
+        message.headers().add(EventCodecs.HEADER, record.getCodec().getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(message);
+    }
+
+    // Chamado no ack: createdAt é o timestamp do evento, gravado antes do commit
+    public void recordPublished(Outbox record, String mode) {
+        Timer timer = MODE_DIRECT.equals(mode) ? directLatency : relayLatency;
+        timer.record(Duration.between(record.getCreatedAt(), Instant.now()));
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("outbox.publish.latency")
+                .description("Time from event creation to broker ack")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static byte[] payloadOf(Outbox record) {
+        return record.getEventPayload() != null
+                ? record.getEventPayload()
+                : record.getEventData().getBytes(StandardCharsets.UTF_8);
+    }
+}
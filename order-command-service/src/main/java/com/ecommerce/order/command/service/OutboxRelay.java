@@ -0,0 +1,184 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OutboxDirectPublishProperties;
+import com.ecommerce.order.command.config.OutboxRelayProperties;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publica o outbox no Kafka sem o Debezium: cada ciclo reivindica um lote com FOR UPDATE SKIP LOCKED,
+ * envia todos de forma assíncrona (chave = aggregateId) e marca como processados, na mesma transação,
+ * apenas os registros confirmados pelo broker. Entrega at-least-once; várias instâncias podem rodar juntas.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+    private final Duration gracePeriod;
+    private final Semaphore inFlight;
+    private final Counter published;
+    private final Counter failed;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       OutboxPublisher publisher,
+                       TransactionTemplate transactionTemplate,
+                       OutboxRelayProperties properties,
+                       OutboxDirectPublishProperties directPublishProperties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        // Com a publicação direta ligada, o relay só recolhe o que ela não confirmou a tempo
+        this.gracePeriod = directPublishProperties.isEnabled() ? directPublishProperties.getRelayGracePeriod() : Duration.ZERO;
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        this.published = meterRegistry.counter("outbox.relay.published");
+        this.failed = meterRegistry.counter("outbox.relay.failed");
+        this.batchTimer = meterRegistry.timer("outbox.relay.batch");
+        meterRegistry.gauge("outbox.relay.in.flight", inFlight,
+                semaphore -> properties.getMaxInFlight() - semaphore.availablePermits());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.5S}",
+            initialDelayString = "${outbox.relay.poll-interval:PT0.5S}")
+    public void poll() {
+        try {
+            // Lote cheio: provavelmente há mais pendentes, segue sem esperar o próximo ciclo
+            while (relayBatch() == properties.getBatchSize()) {
+                log.debug("Outbox batch full, relaying next batch");
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox relay cycle failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // Retorna quantos registros foram publicados e marcados como processados
+    public int relayBatch() {
+        Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> {
+            List<Outbox> batch = outboxRepository.claimUnprocessed(
+                    Instant.now().minus(gracePeriod), PageRequest.of(0, properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            // Versões do mesmo agregado em ordem dentro do lote, ainda que tenham sido gravadas por
+            // instâncias diferentes (createdAt empatado ou relógios levemente diferentes)
+            Map<UUID, List<Outbox>> byAggregate = new LinkedHashMap<>();
+            batch.stream()
+                    .sorted(Comparator.comparing(Outbox::getAggregateId).thenComparing(Outbox::getVersion))
+                    .forEach(record -> byAggregate.computeIfAbsent(record.getAggregateId(), id -> new ArrayList<>()).add(record));
+
+            List<Long> acknowledged = relayInRounds(byAggregate);
+            if (!acknowledged.isEmpty()) {
+                outboxRepository.markProcessed(acknowledged, Instant.now());
+            }
+            return acknowledged.size();
+        }));
+        return relayed != null ? relayed : 0;
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(Outbox record) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<SendResult<String, byte[]>> ack;
+        try {
+            ack = publisher.send(record);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        ack.whenComplete((result, error) -> {
+            inFlight.release();
+            if (error == null) {
+                publisher.recordPublished(record, OutboxPublisher.MODE_RELAY);
+            }
+        });
+        return ack;
+    }
+
+    /**
+     * A rodada n envia o n-ésimo registro de cada agregado e espera os acks antes da seguinte: depois
+     * de uma falha, os registros seguintes do agregado nem são enviados e ficam pendentes para serem
+     * publicados em ordem no próximo ciclo. Agregados com um único registro saem todos na primeira rodada.
+     */
+    private List<Long> relayInRounds(Map<UUID, List<Outbox>> byAggregate) {
+        long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+        List<Long> acknowledged = new ArrayList<>();
+        Set<UUID> failedAggregates = new HashSet<>();
+
+        for (int round = 0; ; round++) {
+            List<Outbox> wave = new ArrayList<>();
+            for (List<Outbox> records : byAggregate.values()) {
+                if (round < records.size() && !failedAggregates.contains(records.get(0).getAggregateId())) {
+                    wave.add(records.get(round));
+                }
+            }
+            if (wave.isEmpty()) {
+                return acknowledged;
+            }
+
+            List<CompletableFuture<SendResult<String, byte[]>>> acks = new ArrayList<>(wave.size());
+            for (Outbox record : wave) {
+                acks.add(send(record));
+            }
+            awaitAcks(wave, acks, deadline, acknowledged, failedAggregates);
+        }
+    }
+
+    private void awaitAcks(List<Outbox> wave, List<CompletableFuture<SendResult<String, byte[]>>> acks,
+                           long deadline, List<Long> acknowledged, Set<UUID> failedAggregates) {
+        for (int i = 0; i < wave.size(); i++) {
+            Outbox record = wave.get(i);
+            try {
+                acks.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged.add(record.getId());
+                published.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedAggregates.add(record.getAggregateId());
+                failed.increment();
+            } catch (ExecutionException | TimeoutException e) {
+                failedAggregates.add(record.getAggregateId());
+                failed.increment();
+                log.warn("Outbox record {} ({} of aggregate {}) not acknowledged: {}",
+                        record.getId(), record.getEventType(), record.getAggregateId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.SnapshotProperties;
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.entity.Snapshot;
+import com.ecommerce.order.command.repository.SnapshotRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnapshotService {
+
+    private final SnapshotRepository snapshotRepository;
+    private final OrderAggregateLoader orderAggregateLoader;
+    private final SnapshotProperties properties;
+
+    // Executado fora do caminho da requisição, apenas após o commit dos eventos.
+    // fallbackExecution: o OrderService publica depois que o EventWriter/group commit já commitou
+    @Async("snapshotExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onAggregateCommitted(AggregateCommittedEvent event) {
+        if (!properties.isEnabled() || !"Order".equals(event.aggregateType())) {
+            return;
+        }
+
+        int threshold = properties.thresholdFor(event.aggregateType());
+        if (event.version() < threshold) {
+            return;
+        }
+
+        int lastSnapshotVersion = snapshotRepository.findFirstByAggregateIdOrderByVersionDesc(event.aggregateId())
+                .map(Snapshot::getVersion)
+                .orElse(0);
+
+        if (event.version() - lastSnapshotVersion < threshold) {
+            return;
+        }
+
+        try {
+            orderAggregateLoader.load(event.aggregateId()).ifPresent(this::saveSnapshot);
+        } catch (Exception e) {
+            // Falha no snapshot não afeta a consistência: o agregado continua reidratável pelos eventos
+            log.warn("Failed to create snapshot for aggregate {}: {}", event.aggregateId(), e.getMessage());
+        }
+    }
+
+    private void saveSnapshot(Order order) {
+        Snapshot snapshot = Snapshot.builder()
+                .aggregateId(order.getId())
+                .aggregateType("Order")
+                .version(order.getVersion())
+                .snapshotData(JsonUtil.toJson(order.toSnapshot()))
+                .build();
+
+        snapshotRepository.save(snapshot);
+        log.debug("Snapshot saved for order {} at version {}", order.getId(), order.getVersion());
+    }
+}
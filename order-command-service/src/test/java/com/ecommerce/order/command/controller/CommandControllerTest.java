@@ -0,0 +1,198 @@
+package com.ecommerce.order.command.controller;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.CommandEntry;
+import com.ecommerce.order.command.entity.CommandStatus;
+import com.ecommerce.order.command.repository.CommandRepository;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.service.CommandService;
+import com.ecommerce.shared.id.UuidV7;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "order.async-commands.enabled=true",
+        "order.async-commands.pool-size=1",
+        "order.async-commands.queue-capacity=1",
+        "snapshot.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CommandControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CommandRepository commandRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    @Qualifier("commandExecutor")
+    private ThreadPoolTaskExecutor commandExecutor;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldAcceptCommandAndReportOutcome() throws Exception {
+        MvcResult accepted = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createValidOrderRequest())))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.data.commandId").exists())
+                .andReturn();
+
+        JsonNode data = objectMapper.readTree(accepted.getResponse().getContentAsString()).get("data");
+        UUID commandId = UUID.fromString(data.get("commandId").asText());
+        assertThat(data.get("statusUrl").asText()).isEqualTo("/api/v1/commands/" + commandId);
+
+        awaitStatus(commandId, CommandStatus.SUCCEEDED);
+
+        UUID orderId = commandRepository.findById(commandId).orElseThrow().getResultId();
+        assertThat(eventRepository.findByAggregateIdOrderByVersionAsc(orderId)).hasSize(1);
+
+        mockMvc.perform(get("/api/v1/commands/{id}", commandId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.data.resultId").value(orderId.toString()));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldReturn429WhenCommandQueueIsFull() throws Exception {
+        awaitIdleExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        // Ocupa a única thread e a única vaga da fila (a primeira tarefa precisa sair da fila antes da segunda)
+        commandExecutor.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await();
+        commandExecutor.execute(() -> awaitQuietly(release));
+
+        try {
+            long commandsBefore = commandRepository.count();
+
+            mockMvc.perform(post("/api/v1/orders")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createValidOrderRequest())))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "1"));
+
+            assertThat(commandRepository.count()).isEqualTo(commandsBefore);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRecoverOnlyCommandsWhoseLeaseExpired() throws Exception {
+        awaitIdleExecutor();
+        String payload = objectMapper.writeValueAsString(createValidOrderRequest());
+        CommandEntry leased = commandRepository.save(processing(payload, Instant.now().plus(Duration.ofMinutes(5))));
+        CommandEntry expired = commandRepository.save(processing(payload, Instant.now().minusSeconds(1)));
+
+        commandService.recoverPendingCommands();
+
+        // O comando de outra instância viva continua com ela; só o lease vencido é retomado
+        awaitStatus(expired.getId(), CommandStatus.SUCCEEDED);
+        awaitIdleExecutor();
+        CommandEntry stillLeased = commandRepository.findById(leased.getId()).orElseThrow();
+        assertThat(stillLeased.getStatus()).isEqualTo(CommandStatus.PROCESSING);
+        assertThat(stillLeased.getOwner()).isEqualTo("other-instance");
+        assertThat(stillLeased.getResultId()).isNull();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldReturn404ForUnknownCommand() throws Exception {
+        mockMvc.perform(get("/api/v1/commands/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private void awaitStatus(UUID commandId, CommandStatus expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            CommandStatus current = commandRepository.findById(commandId).orElseThrow().getStatus();
+            if (current == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        assertThat(commandRepository.findById(commandId).orElseThrow().getStatus()).isEqualTo(expected);
+    }
+
+    // Comandos de outros testes (ou retomados no start) podem ainda estar na fila
+    private void awaitIdleExecutor() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (commandExecutor.getActiveCount() == 0 && commandExecutor.getThreadPoolExecutor().getQueue().isEmpty()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CommandEntry processing(String payload, Instant leaseUntil) {
+        return CommandEntry.builder()
+                .id(UuidV7.next())
+                .commandType("CreateOrder")
+                .payload(payload)
+                .status(CommandStatus.PROCESSING)
+                .owner("other-instance")
+                .leaseUntil(leaseUntil)
+                .build();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
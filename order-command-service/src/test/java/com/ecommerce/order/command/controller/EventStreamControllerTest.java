@@ -0,0 +1,80 @@
+package com.ecommerce.order.command.controller;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.service.EventStreamService;
+import com.ecommerce.order.command.service.OrderService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "snapshot.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldSendSafePositionOnlyWhenTheResponseIsComplete() throws Exception {
+        long start = eventStreamService.safePosition();
+        orderService.createOrder(createValidOrderRequest());
+        orderService.createOrder(createValidOrderRequest());
+        long upTo = eventStreamService.safePosition();
+
+        mockMvc.perform(get("/api/v1/events/stream").param("from", String.valueOf(start)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Event-Stream-Safe-Position", String.valueOf(upTo)));
+
+        // Com limit o corpo para antes de upTo: o cliente continua do globalPosition da última linha
+        MvcResult limited = mockMvc.perform(get("/api/v1/events/stream")
+                        .param("from", String.valueOf(start))
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Event-Stream-Safe-Position"))
+                .andReturn();
+        String[] lines = limited.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode last = objectMapper.readTree(lines[0]);
+        assertThat(last.get("globalPosition").asLong()).isGreaterThan(start).isLessThan(upTo);
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.ecommerce.order.command.controller;
 
 import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.service.OrderCreationResult;
 import com.ecommerce.order.command.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,7 +44,8 @@ class OrderControllerTest {
     void shouldCreateOrderSuccessfully() throws Exception {
         // Arrange
         UUID orderId = UUID.randomUUID();
-        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(orderId);
+        when(orderService.createOrder(any(ParsedOrderRequest.class), isNull()))
+                .thenReturn(new OrderCreationResult(orderId, false));
 
         OrderRequest request = createValidOrderRequest();
 
@@ -81,6 +85,50 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldReportFieldErrorsLikeBeanValidation() throws Exception {
+        String body = "{\"customerId\":\" \",\"items\":[{\"productId\":\"PROD-001\",\"productName\":\"Laptop\","
+                + "\"quantity\":0,\"unitPrice\":1500.00},{\"productName\":\"Mouse\",\"quantity\":1,\"unitPrice\":0}]}";
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.data.customerId").value("Customer ID is required"))
+                .andExpect(jsonPath("$.data['items[0].quantity']").value("Quantity must be at least 1"))
+                .andExpect(jsonPath("$.data['items[1].productId']").value("Product ID is required"))
+                .andExpect(jsonPath("$.data['items[1].unitPrice']").value("Unit price must be greater than 0"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void shouldReturn400WhenAmountsOverflow() throws Exception {
+        String item = "{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":%d,\"unitPrice\":%s}";
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"CUST-123\",\"items\":[" + item.formatted(1, "1e30") + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.data['items[0].unitPrice']").value("Unit price is out of range"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"CUST-123\",\"items\":["
+                                + item.formatted(Integer.MAX_VALUE, "90000000000000.00") + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data['items[0]']").value("Item subtotal is out of range"));
+
+        String large = item.formatted(1, "90000000000000000.00");
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"CUST-123\",\"items\":[" + large + "," + large + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.items").value("Order total is out of range"));
+    }
+
     private OrderRequest createValidOrderRequest() {
         return OrderRequest.builder()
                 .customerId("CUST-123")
@@ -1,13 +1,19 @@
 package com.ecommerce.order.command.domain;
 
+import com.ecommerce.order.command.domain.event.OrderCancelledDomainEvent;
 import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.snapshot.OrderSnapshot;
 import com.ecommerce.order.command.domain.valueobject.CustomerId;
 import com.ecommerce.order.command.domain.valueobject.Money;
 import com.ecommerce.order.command.domain.valueobject.OrderItem;
 import com.ecommerce.shared.domain.DomainEvent;
+import com.ecommerce.shared.id.UuidV7;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,6 +47,22 @@ class OrderTest {
         assertThat(event.getCorrelationId()).isEqualTo(correlationId);
     }
 
+    @Test
+    void shouldAssignTimeOrderedIds() {
+        OrderItem item = OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00")));
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(Order.createOrder(new CustomerId("CUST-123"), List.of(item), UUID.randomUUID(), UUID.randomUUID()).getId());
+        }
+
+        // UUIDv7: mesmo dentro de um milissegundo cada id é maior que o anterior
+        assertThat(ids).allMatch(id -> id.version() == 7 && id.variant() == 2);
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(UuidV7.timestampOf(ids.get(0))).isBetween(before, Instant.now());
+    }
+
     @Test
     void shouldThrowExceptionWhenCustomerIdIsNull() {
         OrderItem item = OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00")));
@@ -70,5 +92,49 @@ class OrderTest {
         // 2 * 1500 + 3 * 50 = 3000 + 150 = 3150
         assertThat(order.getTotalAmount().getAmount()).isEqualByComparingTo("3150.00");
     }
-}
 
+    @Test
+    void shouldRestoreOrderFromSnapshot() {
+        CustomerId customerId = new CustomerId("CUST-123");
+        OrderItem item = OrderItem.create("PROD-001", "Laptop", 2, Money.of(new BigDecimal("1500.00")));
+        Order original = Order.createOrder(customerId, List.of(item), UUID.randomUUID(), UUID.randomUUID());
+
+        OrderSnapshot snapshot = original.toSnapshot();
+        Order restored = Order.fromSnapshot(snapshot, List.of());
+
+        assertThat(restored.getId()).isEqualTo(original.getId());
+        assertThat(restored.getCustomerId()).isEqualTo(customerId);
+        assertThat(restored.getItems()).containsExactlyElementsOf(original.getItems());
+        assertThat(restored.getTotalAmount()).isEqualTo(original.getTotalAmount());
+        assertThat(restored.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(restored.getVersion()).isEqualTo(1);
+        assertThat(restored.getUncommittedEvents()).isEmpty();
+    }
+
+    @Test
+    void shouldCancelWithTheCorrelationIdOfTheOrder() {
+        OrderItem item = OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00")));
+        UUID correlationId = UUID.randomUUID();
+        Order original = Order.createOrder(new CustomerId("CUST-123"), List.of(item), correlationId, UUID.randomUUID());
+        original.markEventsAsCommitted();
+
+        // Também depois de passar por um snapshot
+        Order restored = Order.fromSnapshot(original.toSnapshot(), List.of());
+        restored.cancel("Customer request", UUID.randomUUID());
+
+        DomainEvent cancelled = restored.getUncommittedEvents().get(0);
+        assertThat(cancelled).isInstanceOf(OrderCancelledDomainEvent.class);
+        assertThat(cancelled.getCorrelationId()).isEqualTo(correlationId);
+        assertThat(cancelled.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepEventVersionWhenLoadingFromHistory() {
+        OrderItem item = OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00")));
+        Order original = Order.createOrder(new CustomerId("CUST-123"), List.of(item), UUID.randomUUID(), UUID.randomUUID());
+
+        Order restored = Order.fromHistory(original.getUncommittedEvents());
+
+        assertThat(restored.getVersion()).isEqualTo(original.getVersion());
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecommerce.order.command.domain.mapper;
+
+import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.shared.codec.EventCodec;
+import com.ecommerce.shared.codec.EventCodecs;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"json", "smile", "cbor", "avro"})
+    void shouldRoundTripOrderCreatedEvent(String codecId) {
+        EventCodec codec = EventCodecs.forId(codecId);
+        OrderCreatedEvent event = (OrderCreatedEvent) DomainEventMapper.toExternalEvent(createDomainEvent());
+
+        OrderCreatedEvent decoded = codec.decode(codec.encode(event), OrderCreatedEvent.class);
+
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void shouldDecodeMixedHistoryUsingTheCodecOfEachRow() {
+        OrderCreatedDomainEvent domainEvent = createDomainEvent();
+        SerializedEvent asJson = DomainEventMapper.serialize(domainEvent, EventCodecs.forId("json"));
+        SerializedEvent asSmile = DomainEventMapper.serialize(domainEvent, EventCodecs.forId("smile"));
+
+        // JSON continua em eventData (TEXT); binários vão para eventPayload
+        assertThat(asJson.binary()).isFalse();
+        assertThat(asSmile.binary()).isTrue();
+        assertThat(asSmile.payload().length).isLessThan(asJson.payload().length);
+
+        OrderCreatedDomainEvent fromJson = (OrderCreatedDomainEvent) DomainEventMapper.toDomainEvent(
+                asJson.eventType(), asJson.codec(), asJson.textPayload(), null);
+        OrderCreatedDomainEvent fromSmile = (OrderCreatedDomainEvent) DomainEventMapper.toDomainEvent(
+                asSmile.eventType(), asSmile.codec(), null, asSmile.payload());
+
+        assertThat(fromSmile.getAggregateId()).isEqualTo(fromJson.getAggregateId());
+        assertThat(fromSmile.getItems()).containsExactlyElementsOf(fromJson.getItems());
+        assertThat(fromSmile.getTimestamp()).isEqualTo(domainEvent.getTimestamp());
+    }
+
+    @Test
+    void shouldRejectUnknownCodec() {
+        assertThatThrownBy(() -> EventCodecs.forId("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown event codec");
+    }
+
+    private OrderCreatedDomainEvent createDomainEvent() {
+        return OrderCreatedDomainEvent.builder()
+                .aggregateId(UUID.randomUUID())
+                .customerId(new CustomerId("CUST-123"))
+                .items(List.of(
+                        OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("1500.00"))),
+                        OrderItem.create("PROD-002", "Mouse", 2, Money.of(new BigDecimal("49.99")))))
+                .totalAmount(Money.of(new BigDecimal("1599.98")))
+                .timestamp(Instant.now())
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(1)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.order.command.domain.valueobject;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -71,5 +72,37 @@ class MoneyTest {
         assertThat(money1.isGreaterThan(money2)).isTrue();
         assertThat(money2.isLessThan(money1)).isTrue();
     }
-}
 
+    @Test
+    void shouldRoundToTwoDecimalsAndCompareByValue() {
+        Money money = Money.of(new BigDecimal("10.005"));
+
+        assertThat(money.getMinorUnits()).isEqualTo(1001);
+        assertThat(money).isEqualTo(Money.ofMinorUnits(1001, "BRL"));
+        assertThat(money.multiply(new BigDecimal("0.5")).getAmount()).isEqualByComparingTo("5.01");
+    }
+
+    @Test
+    void shouldSumTotalsWithoutLosingPrecision() {
+        List<Money> values = List.of(
+                Money.of(new BigDecimal("0.10")),
+                Money.of(new BigDecimal("0.20")),
+                Money.of(new BigDecimal("1499.99")));
+
+        assertThat(Money.sum(values).getAmount()).isEqualByComparingTo("1500.29");
+        assertThat(Money.sum(values)).isEqualTo(values.stream().reduce(Money.zero(), Money::add));
+    }
+
+    @Test
+    void shouldFailOnOverflowAndNegativeResults() {
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE, "BRL");
+
+        assertThatThrownBy(() -> max.add(Money.ofMinorUnits(1, "BRL")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("30.00")).subtract(Money.of(new BigDecimal("100.00"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Amount cannot be null or negative");
+    }
+}
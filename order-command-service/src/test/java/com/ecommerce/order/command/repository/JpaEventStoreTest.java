@@ -0,0 +1,74 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JpaEventStoreTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+
+    @Test
+    void shouldLockAggregateBeforeCheckingVersionWhenPartitioned() {
+        UUID aggregateId = UUID.randomUUID();
+        List<Event> events = List.of(Event.builder().aggregateId(aggregateId).version(2).build());
+        when(eventRepository.findCurrentVersion(aggregateId)).thenReturn(1);
+
+        new JpaEventStore(eventRepository, true).append(aggregateId, 1, events);
+
+        // Sem índice único, a leitura da versão só é segura depois do lock
+        InOrder order = inOrder(eventRepository);
+        order.verify(eventRepository).lockAggregate(aggregateId);
+        order.verify(eventRepository).findCurrentVersion(aggregateId);
+        order.verify(eventRepository).saveAllAndFlush(events);
+    }
+
+    @Test
+    void shouldRejectStaleVersionUnderTheLock() {
+        UUID aggregateId = UUID.randomUUID();
+        when(eventRepository.findCurrentVersion(aggregateId)).thenReturn(2);
+        JpaEventStore store = new JpaEventStore(eventRepository, true);
+
+        assertThatThrownBy(() -> store.append(aggregateId, 1, List.of(Event.builder().version(2).build())))
+                .isInstanceOf(ConcurrencyConflictException.class);
+        verify(eventRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void shouldCheckVersionAgainstTheArchiveWhenNoHotEventsRemain() {
+        UUID aggregateId = UUID.randomUUID();
+        List<Event> events = List.of(Event.builder().aggregateId(aggregateId).version(4).build());
+        when(eventRepository.findCurrentVersion(aggregateId)).thenReturn(null);
+        JpaEventStore store = new JpaEventStore(eventRepository, true, id -> 3);
+
+        store.append(aggregateId, 3, events);
+        verify(eventRepository).saveAllAndFlush(events);
+
+        assertThatThrownBy(() -> store.append(aggregateId, 2, events))
+                .isInstanceOf(ConcurrencyConflictException.class);
+    }
+
+    @Test
+    void shouldNotLockNewAggregatesOrUnpartitionedTables() {
+        UUID aggregateId = UUID.randomUUID();
+        when(eventRepository.findCurrentVersion(aggregateId)).thenReturn(1);
+
+        new JpaEventStore(eventRepository, true).append(aggregateId, 0, List.of(Event.builder().version(1).build()));
+        new JpaEventStore(eventRepository, false).append(aggregateId, 1, List.of(Event.builder().version(2).build()));
+
+        verify(eventRepository, never()).lockAggregate(any());
+    }
+}
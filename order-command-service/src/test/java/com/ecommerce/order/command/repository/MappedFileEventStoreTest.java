@@ -0,0 +1,150 @@
+package com.ecommerce.order.command.repository;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.mapper.DomainEventMapper;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.domain.mapper.SerializedEvent;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import com.ecommerce.shared.codec.EventCodecs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileEventStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackAggregateStreamForRehydration() throws Exception {
+        Order order = Order.createOrder(new CustomerId("CUST-123"),
+                List.of(OrderItem.create("PROD-001", "Laptop", 2, Money.of(new BigDecimal("1499.99")))),
+                UUID.randomUUID(), UUID.randomUUID());
+        List<Event> events = order.getUncommittedEvents().stream()
+                .map(domainEvent -> {
+                    SerializedEvent serialized = DomainEventMapper.serialize(domainEvent, EventCodecs.json());
+                    return Event.builder()
+                            .aggregateId(serialized.aggregateId())
+                            .eventType(serialized.eventType())
+                            .eventData(serialized.textPayload())
+                            .codec(serialized.codec())
+                            .correlationId(serialized.correlationId())
+                            .causationId(serialized.causationId())
+                            .version(serialized.version())
+                            .createdAt(serialized.timestamp())
+                            .build();
+                })
+                .toList();
+
+        try (MappedFileEventStore store = new MappedFileEventStore(directory, SEGMENT_SIZE, true)) {
+            store.append(order.getId(), 0, events);
+        }
+
+        try (MappedFileEventStore reopened = new MappedFileEventStore(directory, SEGMENT_SIZE, true)) {
+            Order rehydrated = Order.fromHistory(reopened.readStream(order.getId(), 0).stream()
+                    .map(event -> DomainEventMapper.toDomainEvent(
+                            event.getEventType(), event.getCodec(), event.getEventData(), event.getEventPayload()))
+                    .toList());
+
+            assertThat(rehydrated.getId()).isEqualTo(order.getId());
+            assertThat(rehydrated.getItems()).containsExactlyElementsOf(order.getItems());
+        }
+    }
+
+    @Test
+    void shouldKeepStreamsAcrossSegmentsAndReopen() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (MappedFileEventStore store = new MappedFileEventStore(directory, SEGMENT_SIZE, false)) {
+            for (int version = 1; version <= 40; version++) {
+                store.append(first, version - 1, List.of(event(first, version, 64)));
+                store.append(second, version - 1, List.of(event(second, version, 64)));
+            }
+            assertThat(store.readStream(first, 0)).extracting(Event::getVersion)
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 40).boxed().toList());
+        }
+
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        try (MappedFileEventStore reopened = new MappedFileEventStore(directory, SEGMENT_SIZE, false)) {
+            assertThat(reopened.readStream(first, 0)).hasSize(40);
+            assertThat(reopened.readStream(second, 30)).extracting(Event::getVersion)
+                    .containsExactly(31, 32, 33, 34, 35, 36, 37, 38, 39, 40);
+            assertThat(reopened.readStream(UUID.randomUUID(), 0)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDropTornTailRecordOnRecovery() throws Exception {
+        UUID aggregateId = UUID.randomUUID();
+        int tailOffset;
+
+        try (MappedFileEventStore store = new MappedFileEventStore(directory, SEGMENT_SIZE, true)) {
+            store.append(aggregateId, 0, List.of(event(aggregateId, 1, 32), event(aggregateId, 2, 32)));
+            tailOffset = Math.toIntExact(firstSegmentEnd());
+            store.append(aggregateId, 2, List.of(event(aggregateId, 3, 32), event(aggregateId, 4, 32)));
+        }
+
+        // Corrompe um byte do payload do último lote, como uma escrita interrompida
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(tailOffset + LogSegment.HEADER_SIZE + 20);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        try (MappedFileEventStore recovered = new MappedFileEventStore(directory, SEGMENT_SIZE, true)) {
+            // O lote corrompido some inteiro; os anteriores continuam íntegros
+            assertThat(recovered.readStream(aggregateId, 0)).extracting(Event::getVersion).containsExactly(1, 2);
+
+            // A versão atual volta a ser 2: um append que esperava 4 é conflito
+            assertThatThrownBy(() -> recovered.append(aggregateId, 4, List.of(event(aggregateId, 5, 32))))
+                    .isInstanceOf(ConcurrencyConflictException.class);
+
+            recovered.append(aggregateId, 2, List.of(event(aggregateId, 3, 32)));
+            assertThat(recovered.readStream(aggregateId, 2)).extracting(Event::getVersion).containsExactly(3);
+        }
+    }
+
+    // Fim do primeiro registro: tamanho + header
+    private long firstSegmentEnd() throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "r")) {
+            return LogSegment.HEADER_SIZE + file.readInt();
+        }
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static Event event(UUID aggregateId, int version, int payloadSize) {
+        return Event.builder()
+                .aggregateId(aggregateId)
+                .eventType("TestEvent")
+                .eventData("x".repeat(payloadSize))
+                .codec("json")
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(version)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
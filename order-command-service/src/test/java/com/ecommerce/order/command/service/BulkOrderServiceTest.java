@@ -0,0 +1,109 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "order.bulk.chunk-size=2",
+        "order.bulk.max-line-length=500",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class BulkOrderServiceTest {
+
+    private static final String VALID_ORDER =
+            "{\"customerId\":\"CUST-123\",\"items\":[{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":1,\"unitPrice\":1500.00}]}";
+
+    @Autowired
+    private BulkOrderService bulkOrderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCreateValidOrdersAndReportEachLine() throws Exception {
+        String ndjson = String.join("\n",
+                VALID_ORDER,
+                "{not json",
+                "{\"customerId\":\"\",\"items\":[]}",
+                "",
+                VALID_ORDER,
+                VALID_ORDER,
+                VALID_ORDER);
+
+        List<JsonNode> results = ingest(ndjson);
+
+        // Uma linha de resultado por linha não vazia, na ordem de entrada
+        assertThat(results).extracting(result -> result.get("line").asLong())
+                .containsExactly(1L, 2L, 3L, 5L, 6L, 7L);
+
+        assertThat(results.get(0).has("orderId")).isTrue();
+        assertThat(results.get(1).get("error").asText()).startsWith("Malformed JSON");
+        assertThat(results.get(2).get("error").asText()).isEqualTo("Validation failed");
+        assertThat(results.get(2).get("details").has("customerId")).isTrue();
+        assertThat(results.get(2).get("details").has("items")).isTrue();
+        assertThat(results.subList(3, 6)).allMatch(result -> result.has("orderId"));
+
+        assertThat(eventRepository.count()).isEqualTo(4);
+        assertThat(outboxRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectLinesOverTheMaximumLengthAndKeepReading() throws Exception {
+        String oversized = "{\"customerId\":\"" + "X".repeat(1_000) + "\",\"items\":[]}";
+        String ndjson = String.join("\r\n",
+                VALID_ORDER,
+                oversized,
+                "{not json",
+                "{not json",
+                VALID_ORDER);
+
+        List<JsonNode> results = ingest(ndjson);
+
+        assertThat(results).extracting(result -> result.get("line").asLong())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results.get(0).has("orderId")).isTrue();
+        assertThat(results.get(1).get("error").asText()).isEqualTo("Line exceeds 500 characters");
+        assertThat(results.get(4).has("orderId")).isTrue();
+
+        assertThat(eventRepository.count()).isEqualTo(2);
+    }
+
+    private List<JsonNode> ingest(String ndjson) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        bulkOrderService.ingest(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+}
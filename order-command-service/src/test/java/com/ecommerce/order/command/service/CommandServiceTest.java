@@ -0,0 +1,56 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.AsyncCommandProperties;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.CommandEntry;
+import com.ecommerce.order.command.entity.CommandStatus;
+import com.ecommerce.order.command.repository.CommandRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommandServiceTest {
+
+    private final CommandRepository commandRepository = mock(CommandRepository.class);
+    private final OrderService orderService = mock(OrderService.class);
+    private final CommandService commandService = new CommandService(commandRepository, orderService,
+            new ThreadPoolTaskExecutor(), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new AsyncCommandProperties());
+
+    @Test
+    void shouldTruncateLongErrorsSoTheFailedStatusIsSaved() {
+        UUID commandId = UUID.randomUUID();
+        CommandEntry entry = CommandEntry.builder()
+                .id(commandId)
+                .commandType(CommandService.CREATE_ORDER)
+                .payload(JsonUtil.toJson(OrderRequest.builder().customerId("CUST-123").items(List.of()).build()))
+                .status(CommandStatus.PROCESSING)
+                .build();
+        when(commandRepository.claim(eq(commandId), any(), any(), any(), any(), any())).thenReturn(1);
+        when(commandRepository.findById(commandId)).thenReturn(Optional.of(entry));
+        when(orderService.createOrderAndRecord(any(OrderRequest.class), any()))
+                .thenThrow(new DataIntegrityViolationException("x".repeat(5000)));
+
+        commandService.process(commandId);
+
+        ArgumentCaptor<CommandEntry> saved = ArgumentCaptor.forClass(CommandEntry.class);
+        verify(commandRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(CommandStatus.FAILED);
+        assertThat(saved.getValue().getError()).hasSize(CommandEntry.MAX_ERROR_LENGTH).endsWith("...");
+    }
+}
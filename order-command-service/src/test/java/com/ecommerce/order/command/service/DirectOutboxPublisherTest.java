@@ -0,0 +1,176 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "outbox.direct-publish.enabled=true",
+        "outbox.direct-publish.mark-interval=PT1H",
+        "outbox.direct-publish.relay-grace-period=1h",
+        "outbox.relay.enabled=true",
+        "outbox.relay.poll-interval=PT1H",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "snapshot.enabled=false"
+})
+@EmbeddedKafka(partitions = 1, topics = DirectOutboxPublisherTest.TOPIC)
+@ActiveProfiles("test")
+class DirectOutboxPublisherTest {
+
+    static final String TOPIC = "order-events";
+
+    @Autowired
+    private DirectOutboxPublisher directPublisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldPublishRightAfterCommitAndMarkRecordsProcessed() throws InterruptedException {
+        long directBefore = directPublishes();
+
+        List<UUID> orderIds = List.of(
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()));
+
+        // Publicado sem nenhum ciclo do relay
+        assertThat(consume(orderIds.size())).extracting(ConsumerRecord::key)
+                .containsExactlyInAnyOrderElementsOf(orderIds.stream().map(UUID::toString).toList());
+        // O callback do ack pode rodar logo depois de o consumidor já ter lido as mensagens
+        for (int attempt = 0; attempt < 50 && directPublishes() - directBefore < orderIds.size(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(directPublishes() - directBefore).isEqualTo(orderIds.size());
+
+        // Dentro da carência o relay não disputa os registros com a publicação direta
+        assertThat(relay.relayBatch()).isZero();
+
+        directPublisher.markPublished();
+        assertThat(outboxRepository.findAll()).allMatch(Outbox::getProcessed);
+    }
+
+    @Test
+    void shouldLeaveLaterEventsOfAnAggregateToTheRelayAfterADirectFailure() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        orderService.cancelOrder(orderId, "customer request");
+        List<Outbox> records = outboxRepository.findAll().stream()
+                .sorted(Comparator.comparing(Outbox::getVersion)).toList();
+        Outbox created = records.get(0);
+        Outbox cancelled = records.get(1);
+
+        OutboxPublisher failing = mock(OutboxPublisher.class);
+        CompletableFuture<SendResult<String, byte[]>> createdSend = new CompletableFuture<>();
+        when(failing.send(created)).thenReturn(createdSend);
+        when(failing.send(cancelled)).thenReturn(CompletableFuture.completedFuture(null));
+        DirectOutboxPublisher publisher = new DirectOutboxPublisher(failing, outboxRepository,
+                transactionTemplate, new SimpleMeterRegistry());
+
+        // O cancelamento é confirmado antes de a criação falhar: o ack não pode ser marcado
+        publisher.publishAfterCommit(List.of(created, cancelled));
+        createdSend.completeExceptionally(new IllegalStateException("broker down"));
+        publisher.markPublished();
+        assertThat(outboxRepository.findAll()).noneMatch(Outbox::getProcessed);
+
+        // Enquanto o relay não alcançar o agregado, os eventos seguintes não saem direto
+        publisher.publishAfterCommit(List.of(cancelled));
+        verify(failing, times(1)).send(cancelled);
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markProcessed(
+                records.stream().map(Outbox::getId).toList(), Instant.now()));
+        publisher.markPublished();
+        publisher.publishAfterCommit(List.of(cancelled));
+        verify(failing, times(2)).send(cancelled);
+    }
+
+    private long directPublishes() {
+        return meterRegistry.get("outbox.publish.latency").tag("mode", "direct").timer().count();
+    }
+
+    private List<ConsumerRecord<String, byte[]>> consume(int expected) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("direct-publish-test", "false", embeddedKafka);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (records.size() < expected && System.currentTimeMillis() < deadline) {
+                KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(1)).forEach(records::add);
+            }
+        }
+        return records;
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
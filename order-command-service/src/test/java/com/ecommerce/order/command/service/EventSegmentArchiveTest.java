@@ -0,0 +1,163 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.OrderStatus;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.ArchivedSegment;
+import com.ecommerce.order.command.repository.ArchivedSegmentRepository;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sem o cache de agregados, para que o load realmente precise do segmento arquivado
+@SpringBootTest(properties = {
+        "snapshot.enabled=false",
+        "order.aggregate-cache.enabled=false"
+})
+@ActiveProfiles("test")
+class EventSegmentArchiveTest {
+
+    private static final String PARTITION = "events_p2020_01";
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("event-store.partitioning.archive-directory", archiveDirectory::toString);
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderAggregateLoader loader;
+
+    @Autowired
+    private EventSegmentArchive archive;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ArchivedSegmentRepository segmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        segmentRepository.deleteAll();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + PARTITION);
+    }
+
+    @Test
+    void shouldLoadOrderFromArchivedSegmentAfterPartitionIsGone() throws Exception {
+        UUID archivedOrder = orderService.createOrder(createValidOrderRequest());
+        UUID hotOrder = orderService.createOrder(createValidOrderRequest());
+        Order expected = loader.load(archivedOrder).orElseThrow();
+
+        // Simula a partição antiga: cópia das linhas do pedido, que depois somem da tabela quente
+        jdbcTemplate.execute("CREATE TABLE " + PARTITION + " AS SELECT * FROM events WHERE aggregate_id = '"
+                + archivedOrder + "'");
+        jdbcTemplate.update("DELETE FROM events WHERE aggregate_id = ?", archivedOrder);
+
+        // O mês do segmento precisa cobrir a criação do pedido (id UUIDv7)
+        ArchivedSegment segment = archive.export(PARTITION, YearMonth.now(ZoneOffset.UTC));
+        jdbcTemplate.execute("DROP TABLE " + PARTITION);
+
+        assertThat(segment.getEventCount()).isEqualTo(1);
+        assertThat(Files.exists(Paths.get(segment.getPath()))).isTrue();
+        assertThat(Files.readAllLines(Paths.get(segment.getIndexPath()))).containsExactly(archivedOrder + " 1");
+
+        Order fromArchive = loader.load(archivedOrder).orElseThrow();
+        assertThat(fromArchive.getId()).isEqualTo(archivedOrder);
+        assertThat(fromArchive.getVersion()).isEqualTo(expected.getVersion());
+        assertThat(fromArchive.getItems()).containsExactlyElementsOf(expected.getItems());
+
+        // Agregados fora do índice não abrem o segmento
+        assertThat(archive.findEvents(hotOrder, 0, Integer.MAX_VALUE)).isEmpty();
+        assertThat(loader.load(hotOrder)).isPresent();
+        assertThat(loader.load(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldCancelOrderWhoseWholeHistoryIsArchived() {
+        UUID archivedOrder = orderService.createOrder(createValidOrderRequest());
+        jdbcTemplate.execute("CREATE TABLE " + PARTITION + " AS SELECT * FROM events WHERE aggregate_id = '"
+                + archivedOrder + "'");
+        jdbcTemplate.update("DELETE FROM events WHERE aggregate_id = ?", archivedOrder);
+        archive.export(PARTITION, YearMonth.now(ZoneOffset.UTC));
+
+        // Sem linhas quentes, a versão esperada é conferida contra o índice do segmento
+        orderService.cancelOrder(archivedOrder, "customer request");
+
+        Order cancelled = loader.load(archivedOrder).orElseThrow();
+        assertThat(cancelled.getVersion()).isEqualTo(2);
+        assertThat(cancelled.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void shouldNotOpenSegmentsThatCannotHoldNewerEventsOfTheAggregate() throws Exception {
+        UUID archivedOrder = orderService.createOrder(createValidOrderRequest());
+        jdbcTemplate.execute("CREATE TABLE " + PARTITION + " AS SELECT * FROM events WHERE aggregate_id = '"
+                + archivedOrder + "'");
+        ArchivedSegment segment = archive.export(PARTITION, YearMonth.now(ZoneOffset.UTC));
+
+        // Sem o arquivo, qualquer tentativa de descomprimir o segmento falharia
+        Files.delete(Paths.get(segment.getPath()));
+
+        // Base (snapshot) já na última versão arquivada do agregado
+        assertThat(archive.findEvents(archivedOrder, 1, Integer.MAX_VALUE)).isEmpty();
+        assertThat(loader.load(archivedOrder)).isPresent();
+
+        // Segmento que termina antes da criação do pedido (instante do UUIDv7)
+        segment.setRangeStart(YearMonth.of(2020, 1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        segment.setRangeEnd(YearMonth.of(2020, 2).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        segmentRepository.save(segment);
+        assertThat(archive.findEvents(archivedOrder, 0, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(2)
+                                .unitPrice(new BigDecimal("1499.99"))
+                                .build()
+                ))
+                .build();
+    }
+}
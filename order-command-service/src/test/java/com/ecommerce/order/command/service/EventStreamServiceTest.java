@@ -0,0 +1,130 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.repository.EventStreamFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "event-store.stream.poll-interval=20ms",
+        "event-store.stream.page-size=2",
+        "event-store.stream.gap-timeout=1h",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class EventStreamServiceTest {
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Sem deleteAll em events: apagar as posições anteriores faria os novos eventos parecerem um buraco recente
+
+    @Test
+    void shouldStreamInPositionOrderWithFilters() {
+        long start = eventStreamService.safePosition();
+        List<UUID> orderIds = List.of(
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()));
+        long upTo = eventStreamService.safePosition();
+
+        List<Event> all = new ArrayList<>();
+        eventStreamService.stream(start, upTo, EventStreamFilter.all(), 0, all::add);
+        assertThat(all).extracting(Event::getAggregateId).containsExactlyElementsOf(orderIds);
+        assertThat(all).extracting(Event::getGlobalPosition).isSorted().doesNotHaveDuplicates();
+
+        List<Event> afterFirst = new ArrayList<>();
+        eventStreamService.stream(all.get(0).getGlobalPosition(), upTo, EventStreamFilter.all(), 1, afterFirst::add);
+        assertThat(afterFirst).extracting(Event::getAggregateId).containsExactly(orderIds.get(1));
+
+        List<Event> byAggregate = new ArrayList<>();
+        eventStreamService.stream(start, upTo, new EventStreamFilter("OrderCreated", orderIds.get(2)), 0, byAggregate::add);
+        assertThat(byAggregate).extracting(Event::getAggregateId).containsExactly(orderIds.get(2));
+    }
+
+    @Test
+    void shouldCatchUpAndThenTailNewEvents() throws InterruptedException {
+        long start = eventStreamService.safePosition();
+        List<UUID> historical = List.of(
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()));
+        List<UUID> received = Collections.synchronizedList(new ArrayList<>());
+
+        try (EventStreamSubscription subscription = eventStreamService.subscribe(
+                start, EventStreamFilter.all(), event -> received.add(event.getAggregateId()))) {
+            awaitSize(received, historical.size());
+            assertThat(subscription.isLive()).isTrue();
+
+            UUID live = orderService.createOrder(createValidOrderRequest());
+            awaitSize(received, historical.size() + 1);
+
+            assertThat(received).containsExactly(historical.get(0), historical.get(1), historical.get(2), live);
+            assertThat(subscription.position()).isEqualTo(eventStreamService.safePosition());
+        }
+    }
+
+    @Test
+    void shouldNotReadPastRecentGapUntilItSettles() {
+        orderService.createOrder(createValidOrderRequest());
+        long head = eventStreamService.safePosition();
+
+        // Posição head + 1 ainda "em commit": o evento seguinte acabou de ser criado
+        UUID aggregateId = UUID.randomUUID();
+        try {
+            jdbcTemplate.update("INSERT INTO events (id, global_position, aggregate_id, event_type, codec, correlation_id, "
+                            + "causation_id, version, created_at) VALUES (?, ?, ?, 'OrderCreated', 'json', ?, ?, 1, ?)",
+                    Long.MAX_VALUE, head + 2, aggregateId, UUID.randomUUID(), UUID.randomUUID(), Timestamp.from(Instant.now()));
+            assertThat(eventStreamService.safePosition()).isEqualTo(head);
+
+            // Passado o gap-timeout o buraco é tratado como rollback
+            jdbcTemplate.update("UPDATE events SET created_at = ? WHERE aggregate_id = ?",
+                    Timestamp.from(Instant.now().minus(2, ChronoUnit.HOURS)), aggregateId);
+            assertThat(eventStreamService.safePosition()).isEqualTo(head + 2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM events WHERE aggregate_id = ?", aggregateId);
+        }
+    }
+
+    private void awaitSize(List<UUID> received, int expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && received.size() < expected; attempt++) {
+            Thread.sleep(50);
+        }
+        assertThat(received).hasSize(expected);
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
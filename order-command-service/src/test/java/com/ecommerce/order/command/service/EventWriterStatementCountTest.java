@@ -0,0 +1,166 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.event.OrderCreatedDomainEvent;
+import com.ecommerce.order.command.domain.valueobject.CustomerId;
+import com.ecommerce.order.command.domain.valueobject.Money;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import com.ecommerce.shared.domain.DomainEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta os INSERTs preparados pelo Hibernate para garantir
+ * um único round trip por tabela (events, outbox) por comando.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class EventWriterStatementCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventWriter eventWriter;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        orderService.createOrder(createValidOrderRequest());
+        statistics.clear();
+        InsertCounter.INSERTS.set(0);
+    }
+
+    @Test
+    void shouldUseOneStatementPerTableForCreateOrder() {
+        orderService.createOrder(createValidOrderRequest());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(InsertCounter.INSERTS.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBatchAllUncommittedEventsOfAnAggregate() {
+        List<DomainEvent> events = createEvents(UUID.randomUUID(), 10);
+
+        transactionTemplate.executeWithoutResult(status -> eventWriter.write("Order", events));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(InsertCounter.INSERTS.get()).isEqualTo(2);
+    }
+
+    private List<DomainEvent> createEvents(UUID aggregateId, int count) {
+        List<OrderItem> items = List.of(OrderItem.create("PROD-001", "Laptop", 1, Money.of(new BigDecimal("10.00"))));
+        List<DomainEvent> events = new ArrayList<>();
+        for (int version = 1; version <= count; version++) {
+            events.add(OrderCreatedDomainEvent.builder()
+                    .aggregateId(aggregateId)
+                    .customerId(new CustomerId("CUST-123"))
+                    .items(items)
+                    .totalAmount(Money.of(new BigDecimal("10.00")))
+                    .timestamp(Instant.now())
+                    .correlationId(UUID.randomUUID())
+                    .causationId(UUID.randomUUID())
+                    .version(version)
+                    .build());
+        }
+        return events;
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+
+    /**
+     * Conta os INSERTs preparados na conexão JDBC; com batch, um por tabela.
+     * As buscas de bloco dos sequences (pooled) não entram na contagem.
+     */
+    @TestConfiguration
+    static class InsertCounter {
+
+        static final AtomicInteger INSERTS = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor insertCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? proxy(DataSource.class, dataSource) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                if (method.getName().equals("prepareStatement")
+                        && ((String) args[0]).toLowerCase().contains("insert into")) {
+                    INSERTS.incrementAndGet();
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    return result instanceof Connection connection && type != Connection.class
+                            ? proxy(Connection.class, connection)
+                            : result;
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "order.group-commit.enabled=true",
+        "order.group-commit.max-linger=50ms",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class GroupCommitWriterTest {
+
+    private static final int CONCURRENT_ORDERS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldCommitConcurrentOrdersInSharedTransactions() {
+        DistributionSummary batchSize = meterRegistry.get("order.group_commit.batch.size").summary();
+        long batchesBefore = batchSize.count();
+        double commandsBefore = batchSize.totalAmount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ORDERS);
+        try {
+            List<CompletableFuture<UUID>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> orderService.createOrder(createValidOrderRequest()), executor));
+            }
+
+            // Cada chamador só retorna após o commit: os eventos já estão visíveis
+            List<UUID> orderIds = futures.stream().map(CompletableFuture::join).toList();
+            assertThat(orderIds).doesNotHaveDuplicates().hasSize(CONCURRENT_ORDERS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(eventRepository.count()).isEqualTo(CONCURRENT_ORDERS);
+        assertThat(outboxRepository.count()).isEqualTo(CONCURRENT_ORDERS);
+
+        assertThat(batchSize.totalAmount() - commandsBefore).isEqualTo(CONCURRENT_ORDERS);
+        assertThat(batchSize.count() - batchesBefore).isLessThan(CONCURRENT_ORDERS);
+        assertThat(meterRegistry.get("order.group_commit.queue.delay").timer().count())
+                .isGreaterThanOrEqualTo(CONCURRENT_ORDERS);
+    }
+
+    @Test
+    void shouldCommitAsyncCommandOutcomeWithTheEventsOutsideTheBatch() {
+        long batchesBefore = meterRegistry.get("order.group_commit.batch.size").summary().count();
+
+        // O comando assíncrono grava o próprio status na transação dos eventos: se ela falha, nada fica
+        assertThatThrownBy(() -> orderService.createOrderAndRecord(createValidOrderRequest(), orderId -> {
+            throw new IllegalStateException("command status not saved");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(eventRepository.count()).isZero();
+        assertThat(outboxRepository.count()).isZero();
+
+        orderService.createOrderAndRecord(createValidOrderRequest(), orderId -> { });
+        assertThat(eventRepository.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.group_commit.batch.size").summary().count()).isEqualTo(batchesBefore);
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.domain.OrderStatus;
+import com.ecommerce.order.command.domain.event.OrderCancelledDomainEvent;
+import com.ecommerce.order.command.dto.OrderRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "snapshot.enabled=false")
+@ActiveProfiles("test")
+class OrderAggregateCacheTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderAggregateLoader loader;
+
+    @Autowired
+    private OrderAggregateCache aggregateCache;
+
+    @Autowired
+    private EventWriter eventWriter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldHandOutIndependentInstancesFromCache() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        double hitsBefore = cacheGets("hit");
+
+        Order first = loader.load(orderId).orElseThrow();
+        // Mutação em memória de um comando não pode vazar para o próximo
+        first.cancel("Not persisted", UUID.randomUUID());
+        Order second = loader.load(orderId).orElseThrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(second.getUncommittedEvents()).isEmpty();
+        assertThat(cacheGets("hit") - hitsBefore).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAdvanceCachedVersionAfterCommand() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+
+        orderService.cancelOrder(orderId, "Customer request");
+
+        assertThat(aggregateCache.get(orderId)).get()
+                .satisfies(snapshot -> {
+                    assertThat(snapshot.getVersion()).isEqualTo(2);
+                    assertThat(snapshot.getStatus()).isEqualTo("CANCELLED");
+                });
+    }
+
+    @Test
+    void shouldApplyEventsNewerThanCachedVersion() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        long cacheLoadsBefore = loads("cache");
+
+        // Gravado sem passar pelo OrderService, como faria outra instância do serviço
+        eventWriter.write("Order", List.of(OrderCancelledDomainEvent.builder()
+                .aggregateId(orderId)
+                .reason("Cancelled elsewhere")
+                .timestamp(Instant.now())
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(2)
+                .build()));
+
+        Order order = loader.load(orderId).orElseThrow();
+
+        assertThat(order.getVersion()).isEqualTo(2);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(loads("cache") - cacheLoadsBefore).isEqualTo(1);
+        assertThat(aggregateCache.get(orderId)).get().extracting("version").isEqualTo(2);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", OrderAggregateCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private long loads(String source) {
+        var timer = meterRegistry.find("order.aggregate.load").tag("source", source).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
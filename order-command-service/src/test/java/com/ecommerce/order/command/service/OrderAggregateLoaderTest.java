@@ -0,0 +1,95 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.domain.Order;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Snapshot;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.SnapshotRepository;
+import com.ecommerce.order.command.util.JsonUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrderAggregateLoaderTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderAggregateLoader loader;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SnapshotRepository snapshotRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        snapshotRepository.deleteAll();
+    }
+
+    @Test
+    void shouldLoadOrderFromEventHistory() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+
+        Order order = loader.load(orderId).orElseThrow();
+
+        assertThat(order.getId()).isEqualTo(orderId);
+        assertThat(order.getVersion()).isEqualTo(1);
+        assertThat(order.getTotalAmount().getAmount()).isEqualByComparingTo("2999.98");
+    }
+
+    @Test
+    void shouldLoadOrderFromLatestSnapshot() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        Order fromEvents = loader.load(orderId).orElseThrow();
+
+        snapshotRepository.save(Snapshot.builder()
+                .aggregateId(orderId)
+                .aggregateType("Order")
+                .version(fromEvents.getVersion())
+                .snapshotData(JsonUtil.toJson(fromEvents.toSnapshot()))
+                .build());
+        // Sem eventos após o snapshot, o estado deve vir exclusivamente dele
+        eventRepository.deleteAll();
+
+        Order fromSnapshot = loader.load(orderId).orElseThrow();
+
+        assertThat(fromSnapshot.getId()).isEqualTo(orderId);
+        assertThat(fromSnapshot.getVersion()).isEqualTo(fromEvents.getVersion());
+        assertThat(fromSnapshot.getItems()).containsExactlyElementsOf(fromEvents.getItems());
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownOrder() {
+        assertThat(loader.load(UUID.randomUUID())).isEmpty();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(2)
+                                .unitPrice(new BigDecimal("1499.99"))
+                                .build()
+                ))
+                .build();
+    }
+}
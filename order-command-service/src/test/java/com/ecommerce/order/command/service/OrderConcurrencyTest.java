@@ -0,0 +1,213 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Event;
+import com.ecommerce.order.command.exception.BusinessException;
+import com.ecommerce.order.command.exception.ConcurrencyConflictException;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.EventStore;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "order.concurrency.max-attempts=200",
+        "order.concurrency.initial-backoff=1ms",
+        "order.concurrency.max-backoff=20ms",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class OrderConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    @Autowired
+    private EventStore eventStore;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldRejectAppendWithStaleExpectedVersion() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+
+        orderService.cancelOrder(orderId, "Customer request");
+
+        // Comando que carregou o pedido na versão 1, antes do cancelamento
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                eventStore.append(orderId, 1, List.of(event(orderId, 2)))))
+                .isInstanceOf(ConcurrencyConflictException.class);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                eventStore.append(orderId, 3, List.of(event(orderId, 4)))))
+                .isInstanceOf(ConcurrencyConflictException.class);
+
+        assertThat(eventRepository.findByAggregateIdOrderByVersionAsc(orderId)).hasSize(2);
+    }
+
+    @Test
+    void shouldCancelExactlyOnceUnderConcurrentCommands() throws Exception {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<CompletableFuture<String>> outcomes = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                outcomes.add(CompletableFuture.supplyAsync(() -> {
+                    awaitBarrier(barrier);
+                    try {
+                        orderService.cancelOrder(orderId, "Customer request");
+                        return "CANCELLED";
+                    } catch (BusinessException e) {
+                        return e.getCode();
+                    }
+                }, executor));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> results = outcomes.stream().map(CompletableFuture::join).toList();
+
+        // Perdedores recarregam o pedido já cancelado em vez de gravar um segundo cancelamento
+        assertThat(results).filteredOn("CANCELLED"::equals).hasSize(1);
+        assertThat(results).filteredOn("ORDER_NOT_CANCELLABLE"::equals).hasSize(THREADS - 1);
+        assertThat(eventRepository.findByAggregateIdOrderByVersionAsc(orderId))
+                .extracting(Event::getVersion)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldKeepVersionsContiguousWhenManyThreadsAppendToOneAggregate() {
+        UUID aggregateId = UUID.randomUUID();
+        int appendsPerThread = 10;
+        // Versão 0 é reservada para agregados recém-criados; o stream já existe quando a disputa começa
+        transactionTemplate.executeWithoutResult(status -> eventStore.append(aggregateId, 0, List.of(event(aggregateId, 1))));
+        double conflictsBefore = counter("order.concurrency.conflicts");
+        long attemptsBefore = attemptsCount();
+        double attemptsTotalBefore = attemptsTotal();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<CompletableFuture<Void>> writers = IntStream.range(0, THREADS)
+                    .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < appendsPerThread; i++) {
+                            optimisticRetry.execute("Stress", () -> appendNext(aggregateId));
+                        }
+                    }, executor))
+                    .toList();
+            writers.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+
+        int total = THREADS * appendsPerThread;
+        assertThat(eventStore.readStream(aggregateId, 0))
+                .extracting(Event::getVersion)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, total + 1).boxed().toList());
+
+        // Cada comando registra suas tentativas uma vez; as tentativas extras são exatamente os conflitos
+        double conflicts = counter("order.concurrency.conflicts") - conflictsBefore;
+        assertThat(attemptsCount() - attemptsBefore).isEqualTo(total);
+        assertThat(attemptsTotal() - attemptsTotalBefore - total).isEqualTo(conflicts);
+    }
+
+    // Lê a versão atual e grava a seguinte, como um comando que carrega o agregado e acrescenta um evento
+    private Integer appendNext(UUID aggregateId) {
+        List<Event> stream = eventStore.readStream(aggregateId, 0);
+        int current = stream.isEmpty() ? 0 : stream.get(stream.size() - 1).getVersion();
+        transactionTemplate.executeWithoutResult(status ->
+                eventStore.append(aggregateId, current, List.of(event(aggregateId, current + 1))));
+        return current + 1;
+    }
+
+    private double counter(String name) {
+        var counter = meterRegistry.find(name).tag("aggregate", "Stress").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long attemptsCount() {
+        var summary = meterRegistry.find("order.concurrency.attempts").tag("aggregate", "Stress").summary();
+        return summary == null ? 0 : summary.count();
+    }
+
+    private double attemptsTotal() {
+        var summary = meterRegistry.find("order.concurrency.attempts").tag("aggregate", "Stress").summary();
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private static void awaitBarrier(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Event event(UUID aggregateId, int version) {
+        return Event.builder()
+                .aggregateId(aggregateId)
+                .eventType("StressTest")
+                .eventData("{}")
+                .codec("json")
+                .correlationId(UUID.randomUUID())
+                .causationId(UUID.randomUUID())
+                .version(version)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
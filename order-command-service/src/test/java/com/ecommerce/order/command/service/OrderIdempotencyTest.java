@@ -0,0 +1,114 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.IdempotencyKeyRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "snapshot.enabled=false")
+@ActiveProfiles("test")
+class OrderIdempotencyTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+    }
+
+    @Test
+    void shouldReturnOriginalOrderForRepeatedKey() {
+        String key = UUID.randomUUID().toString();
+        double cacheHitsBefore = lookups("cache_hit");
+
+        OrderCreationResult first = orderService.createOrder(createValidOrderRequest(), key);
+        OrderCreationResult retry = orderService.createOrder(createValidOrderRequest(), key);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.orderId()).isEqualTo(first.orderId());
+        assertThat(lookups("cache_hit") - cacheHitsBefore).isEqualTo(1);
+
+        assertThat(eventRepository.count()).isEqualTo(1);
+        assertThat(outboxRepository.count()).isEqualTo(1);
+        assertThat(idempotencyKeyRepository.findById(key).orElseThrow().getAggregateId()).isEqualTo(first.orderId());
+    }
+
+    @Test
+    void shouldCreateOnlyOneOrderForConcurrentRequestsWithSameKey() {
+        String key = UUID.randomUUID().toString();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        CompletableFuture<OrderCreationResult> first = CompletableFuture.supplyAsync(() -> createAfter(barrier, key));
+        CompletableFuture<OrderCreationResult> second = CompletableFuture.supplyAsync(() -> createAfter(barrier, key));
+
+        assertThat(first.join().orderId()).isEqualTo(second.join().orderId());
+        assertThat(List.of(first.join().replayed(), second.join().replayed())).containsExactlyInAnyOrder(false, true);
+        assertThat(eventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreateDistinctOrdersWithoutKey() {
+        UUID first = orderService.createOrder(createValidOrderRequest());
+        UUID second = orderService.createOrder(createValidOrderRequest());
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(idempotencyKeyRepository.count()).isZero();
+    }
+
+    private OrderCreationResult createAfter(CyclicBarrier barrier, String key) {
+        try {
+            barrier.await();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return orderService.createOrder(createValidOrderRequest(), key);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("order.idempotency.lookups").tag("result", result).counter().count();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OrderRequestProperties;
+import com.ecommerce.order.command.domain.valueobject.OrderItem;
+import com.ecommerce.order.command.dto.ParsedOrderRequest;
+import com.ecommerce.order.command.exception.BusinessException;
+import com.ecommerce.order.command.exception.PayloadTooLargeException;
+import com.ecommerce.order.command.exception.RequestValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderRequestReaderTest {
+
+    private OrderRequestProperties properties;
+    private OrderRequestReader reader;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderRequestProperties();
+        properties.setMaxItems(3);
+        properties.setMaxBodySize(DataSize.ofKilobytes(1));
+        reader = new OrderRequestReader(new ObjectMapper(), properties);
+    }
+
+    @Test
+    void shouldBuildValueObjectsWhileParsing() throws IOException {
+        ParsedOrderRequest request = read("{\"customerId\":\"CUST-123\",\"ignored\":{\"a\":[1,2]},\"items\":["
+                + "{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":2,\"unitPrice\":1500.00},"
+                + "{\"productId\":\"PROD-002\",\"productName\":\"Mouse\",\"quantity\":\"1\",\"unitPrice\":\"89.90\"}]}");
+
+        assertThat(request.customerId().getValue()).isEqualTo("CUST-123");
+        assertThat(request.items()).extracting(OrderItem::getSubtotal)
+                .extracting(money -> money.getAmount().toPlainString())
+                .containsExactly("3000.00", "89.90");
+    }
+
+    @Test
+    void shouldRejectMissingItemsWithTheBeanValidationMessage() {
+        assertThatThrownBy(() -> read("{\"customerId\":\"CUST-123\",\"items\":[]}"))
+                .isInstanceOfSatisfying(RequestValidationException.class, e -> assertThat(e.getErrors())
+                        .containsEntry("items", "Order must contain at least one item")
+                        .hasSize(1));
+    }
+
+    @Test
+    void shouldStopAtMaxItems() {
+        String item = "{\"productId\":\"PROD-001\",\"productName\":\"Laptop\",\"quantity\":1,\"unitPrice\":10}";
+
+        assertThatThrownBy(() -> read("{\"customerId\":\"CUST-123\",\"items\":[" + String.join(",", item, item, item, item) + "]}"))
+                .isInstanceOfSatisfying(RequestValidationException.class, e -> assertThat(e.getErrors())
+                        .containsEntry("items", "Order must contain at most 3 items"));
+    }
+
+    @Test
+    void shouldEnforceBodySizeWithAndWithoutContentLength() {
+        byte[] body = ("{\"customerId\":\"" + "C".repeat(2048) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(body), body.length))
+                .isInstanceOf(PayloadTooLargeException.class);
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(body), -1))
+                .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void shouldReportMalformedJson() {
+        assertThatThrownBy(() -> read("{\"customerId\":\"CUST-123\",\"items\":[{\"quantity\":\"two\"}]}"))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getCode()).isEqualTo("MALFORMED_JSON"));
+        assertThatThrownBy(() -> read("{\"customerId\":"))
+                .isInstanceOfSatisfying(BusinessException.class, e -> assertThat(e.getCode()).isEqualTo("MALFORMED_JSON"));
+    }
+
+    private ParsedOrderRequest read(String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        return reader.read(new ByteArrayInputStream(body), body.length);
+    }
+}
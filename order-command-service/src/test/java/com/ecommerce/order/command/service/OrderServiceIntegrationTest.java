@@ -13,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -66,6 +67,9 @@ class OrderServiceIntegrationTest {
         assertThat(outbox.getEventType()).isEqualTo("OrderCreated");
         assertThat(outbox.getAggregateId()).isEqualTo(orderId);
         assertThat(outbox.getProcessed()).isFalse();
+        // event_payload é a coluna publicada pelo conector, inclusive para JSON
+        assertThat(outbox.getCodec()).isEqualTo("json");
+        assertThat(new String(outbox.getEventPayload(), StandardCharsets.UTF_8)).contains("CUST-123");
     }
 
     @Test
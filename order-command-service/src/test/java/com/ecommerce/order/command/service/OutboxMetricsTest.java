@@ -0,0 +1,100 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import com.ecommerce.order.command.repository.PartitionSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "outbox.metrics.refresh-interval=PT1H",
+        "snapshot.enabled=false"
+})
+@ActiveProfiles("test")
+class OutboxMetricsTest {
+
+    @Autowired
+    private OutboxMetrics outboxMetrics;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldReportDepthAndOldestUnprocessedAge() throws InterruptedException {
+        orderService.createOrder(createValidOrderRequest());
+        orderService.createOrder(createValidOrderRequest());
+        Thread.sleep(20);
+
+        outboxMetrics.refresh();
+
+        assertThat(gauge("outbox.depth")).isEqualTo(2);
+        assertThat(gauge("outbox.oldest.unprocessed.age")).isPositive();
+
+        List<Long> ids = outboxRepository.findAll().stream().map(Outbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markProcessed(ids, Instant.now()));
+        outboxMetrics.refresh();
+
+        assertThat(gauge("outbox.depth")).isZero();
+        assertThat(gauge("outbox.oldest.unprocessed.age")).isZero();
+    }
+
+    @Test
+    void shouldNameDailyPartitionsDistinctFromMonthly() {
+        String daily = PartitionSupport.partitionName("outbox", LocalDate.of(2024, 3, 7));
+
+        assertThat(daily).isEqualTo("outbox_p2024_03_07");
+        assertThat(PartitionSupport.dayOf(daily)).contains(LocalDate.of(2024, 3, 7));
+        assertThat(PartitionSupport.monthOf(daily)).isEmpty();
+        assertThat(PartitionSupport.dayOf("events_p2024_03")).isEmpty();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
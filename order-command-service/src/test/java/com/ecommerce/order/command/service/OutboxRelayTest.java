@@ -0,0 +1,187 @@
+package com.ecommerce.order.command.service;
+
+import com.ecommerce.order.command.config.OutboxDirectPublishProperties;
+import com.ecommerce.order.command.config.OutboxRelayProperties;
+import com.ecommerce.order.command.dto.OrderRequest;
+import com.ecommerce.order.command.entity.Outbox;
+import com.ecommerce.order.command.repository.EventRepository;
+import com.ecommerce.order.command.repository.OutboxRepository;
+import com.ecommerce.shared.codec.EventCodecs;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "outbox.relay.enabled=true",
+        "outbox.relay.batch-size=2",
+        "outbox.relay.poll-interval=PT1H",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "snapshot.enabled=false"
+})
+@EmbeddedKafka(partitions = 1, topics = OutboxRelayTest.TOPIC)
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+    static final String TOPIC = "order-events";
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void shouldPublishPendingRecordsKeyedByAggregateAndMarkThemProcessed() {
+        List<UUID> orderIds = List.of(
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()),
+                orderService.createOrder(createValidOrderRequest()));
+
+        // Lote de 2: o primeiro ciclo sai cheio e o relay segue para o restante
+        relay.poll();
+
+        assertThat(outboxRepository.findAll()).allMatch(Outbox::getProcessed);
+        assertThat(relay.relayBatch()).isZero();
+
+        // O tópico é compartilhado com os outros testes da classe
+        List<String> keys = orderIds.stream().map(UUID::toString).toList();
+        List<ConsumerRecord<String, byte[]>> records = consume(orderIds.size(), record -> keys.contains(record.key()));
+        assertThat(records).extracting(ConsumerRecord::key).containsExactlyInAnyOrderElementsOf(keys);
+
+        ConsumerRecord<String, byte[]> first = records.get(0);
+        // Tópico lido pelos consumidores da query e da saga
+        assertThat(records).extracting(ConsumerRecord::topic).containsOnly("order-events");
+        assertThat(new String(first.headers().lastHeader(EventCodecs.HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("json");
+        assertThat(new String(first.headers().lastHeader(OutboxPublisher.EVENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("OrderCreated");
+        OrderCreatedEvent event = EventCodecs.json().decode(first.value(), OrderCreatedEvent.class);
+        assertThat(event.getOrderId().toString()).isEqualTo(first.key());
+    }
+
+    @Test
+    void shouldPublishEventsOfAnAggregateInVersionOrderWhateverTheirIds() {
+        UUID orderId = orderService.createOrder(createValidOrderRequest());
+        orderService.cancelOrder(orderId, "customer request");
+        // Cancelamento gravado por outra instância, com um bloco mais antigo da sequence
+        jdbcTemplate.update("UPDATE outbox SET id = id - 1000 WHERE aggregate_id = ? AND version = 2", orderId);
+
+        relay.poll();
+
+        assertThat(consume(2, record -> record.key().equals(orderId.toString())))
+                .extracting(record -> new String(record.headers().lastHeader(OutboxPublisher.EVENT_TYPE_HEADER).value(),
+                        StandardCharsets.UTF_8))
+                .containsExactly("OrderCreated", "OrderCancelled");
+    }
+
+    @Test
+    void shouldNotSendLaterRecordsOfAnAggregateAfterAFailedSend() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        Outbox created = Outbox.builder().id(1L).aggregateId(failing).eventType("OrderCreated").version(1).build();
+        Outbox cancelled = Outbox.builder().id(2L).aggregateId(failing).eventType("OrderCancelled").version(2).build();
+        Outbox other = Outbox.builder().id(3L).aggregateId(healthy).eventType("OrderCreated").version(1).build();
+
+        OutboxRepository repository = mock(OutboxRepository.class);
+        when(repository.claimUnprocessed(any(), any())).thenReturn(List.of(created, cancelled, other));
+        OutboxPublisher publisher = mock(OutboxPublisher.class);
+        when(publisher.send(created)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(publisher.send(other)).thenReturn(CompletableFuture.completedFuture(null));
+        OutboxRelay failingRelay = new OutboxRelay(repository, publisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new OutboxRelayProperties(),
+                new OutboxDirectPublishProperties(), new SimpleMeterRegistry());
+
+        assertThat(failingRelay.relayBatch()).isEqualTo(1);
+
+        // O cancelamento fica pendente sem ter sido enviado: o próximo ciclo publica v1 e v2 em ordem
+        verify(publisher, never()).send(cancelled);
+        verify(repository).markProcessed(eq(List.of(3L)), any());
+    }
+
+    private List<ConsumerRecord<String, byte[]>> consume(int expected, Predicate<ConsumerRecord<String, byte[]>> filter) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", embeddedKafka);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (records.size() < expected && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, byte[]> polled = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(1));
+                polled.forEach(record -> {
+                    if (filter.test(record)) {
+                        records.add(record);
+                    }
+                });
+            }
+        }
+        return records;
+    }
+
+    private OrderRequest createValidOrderRequest() {
+        return OrderRequest.builder()
+                .customerId("CUST-123")
+                .items(List.of(
+                        OrderRequest.OrderItemRequest.builder()
+                                .productId("PROD-001")
+                                .productName("Laptop")
+                                .quantity(1)
+                                .unitPrice(new BigDecimal("1500.00"))
+                                .build()
+                ))
+                .build();
+    }
+}
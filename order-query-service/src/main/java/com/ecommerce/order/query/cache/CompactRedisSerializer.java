@@ -0,0 +1,110 @@
+package com.ecommerce.order.query.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Valor de cache em Smile para um tipo fixo (sem nomes de classe), com nomes de campo e strings
+ * repetidas compartilhados e LZ4 acima de um limite de tamanho.
+ *
+ * Formato: [versão][flags][tamanho original int32, só com LZ4][payload]. A convivência com instâncias
+ * antigas e com o formato json vem do prefixo das chaves (codec e versão, ver RedisConfig), não
+ * deste serializer: os leitores JSON falham ao ler estes bytes. Aqui um valor de outra versão ou
+ * formato que ainda apareça sob o prefixo é só lido como ausente e regravado.
+ */
+@Slf4j
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+    public static final byte VERSION = 1;
+
+    private static final byte FLAG_LZ4 = 1;
+    private static final int HEADER = 2;
+    private static final int LENGTH = Integer.BYTES;
+
+    private static final SmileMapper MAPPER = SmileMapper.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final Class<T> type;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    public CompactRedisSerializer(Class<T> type, int compressionThreshold) {
+        this.type = type;
+        this.writer = MAPPER.writerFor(type);
+        this.reader = MAPPER.readerFor(type);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] payload;
+        try {
+            payload = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + type.getSimpleName() + " as Smile", e);
+        }
+
+        if (compressionThreshold <= 0 || payload.length < compressionThreshold) {
+            byte[] out = new byte[HEADER + payload.length];
+            out[0] = VERSION;
+            System.arraycopy(payload, 0, out, HEADER, payload.length);
+            return out;
+        }
+
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] out = new byte[HEADER + LENGTH + maxLength];
+        out[0] = VERSION;
+        out[1] = FLAG_LZ4;
+        ByteBuffer.wrap(out, HEADER, LENGTH).putInt(payload.length);
+        int compressed = compressor.compress(payload, 0, payload.length, out, HEADER + LENGTH, maxLength);
+        return Arrays.copyOf(out, HEADER + LENGTH + compressed);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER || bytes[0] != VERSION) {
+            log.debug("Ignoring cached {} in unknown format (first byte {})", type.getSimpleName(), bytes[0]);
+            return null;
+        }
+
+        try {
+            if ((bytes[1] & FLAG_LZ4) == 0) {
+                return reader.readValue(bytes, HEADER, bytes.length - HEADER);
+            }
+            int length = ByteBuffer.wrap(bytes, HEADER, LENGTH).getInt();
+            byte[] payload = decompressor.decompress(bytes, HEADER + LENGTH, length);
+            return reader.readValue(payload);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read cached " + type.getSimpleName(), e);
+        }
+    }
+}
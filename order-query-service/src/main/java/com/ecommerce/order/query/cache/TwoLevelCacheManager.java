@@ -0,0 +1,96 @@
+package com.ecommerce.order.query.cache;
+
+import com.ecommerce.order.query.config.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager em dois níveis: cada cache do L2 (normalmente o RedisCacheManager, sem transactionAware)
+ * ganha um L1 Caffeine com tamanho e TTL por nome de cache. Invalidações saem pelo pub/sub do Redis
+ * como "origem|cache|chave" (sem chave = limpar tudo); mensagens da própria instância são ignoradas.
+ * Com transactionAware, escritas e remoções nos dois níveis só acontecem após o commit.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private final CacheManager remote;
+    private final NearCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote,
+                                NearCacheProperties properties,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry) {
+        this.remote = remote;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return remote.getCacheNames().stream()
+                .map(this::getMissingCache)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> {
+            NearCacheProperties.Spec spec = properties.spec(cacheName);
+            return new TwoLevelCache(cacheName,
+                    Caffeine.newBuilder()
+                            .maximumSize(spec.getMaximumSize())
+                            .expireAfterWrite(spec.getLocalTtl())
+                            .build(),
+                    remoteCache,
+                    this::publishInvalidation,
+                    meterRegistry);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<String> parts = List.of(new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3));
+        if (parts.size() < 2 || parts.get(0).equals(instanceId)) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts.get(1));
+        if (cache != null) {
+            cache.evictLocal(parts.size() == 3 ? parts.get(2) : null);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = instanceId + "|" + cacheName + (key != null ? "|" + key : "");
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+        } catch (RuntimeException e) {
+            // As outras instâncias ainda descartam a entrada pelo localTtl
+            log.warn("Failed to publish cache invalidation {}: {}", message, e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.ecommerce.order.query.config;
 
+import com.ecommerce.shared.codec.EventCodecDeserializer;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,7 +15,6 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -27,8 +29,11 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Autowired
+    private ProjectionBatchProperties batchProperties;
+
     @Bean
-    public ConsumerFactory<String, OrderCreatedEvent> consumerFactory() {
+    public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -37,21 +42,30 @@ public class KafkaConsumerConfig {
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderCreatedEvent.class.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        
+        // O codec (JSON, Smile, CBOR, Avro) é escolhido pelo header eventCodec de cada mensagem
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventCodecDeserializer.class.getName());
+        // order-events carrega mais de um tipo: a classe vem do header eventType (sem header = OrderCreated)
+        config.put(EventCodecDeserializer.VALUE_TYPE, OrderCreatedEvent.class.getName());
+        config.put(EventCodecDeserializer.TYPE_MAPPINGS,
+                "OrderCreated:" + OrderCreatedEvent.class.getName()
+                        + ",OrderCancelled:" + OrderCancelledEvent.class.getName());
+        // Tamanho do lote por poll (em modo lote, o lote entregue ao listener)
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchProperties.getMaxPollRecords());
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, (int) batchProperties.getFetchMinBytes().toBytes());
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) batchProperties.getFetchMaxWait().toMillis());
+        config.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, (int) batchProperties.getMaxPartitionFetchBytes().toBytes());
+
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         factory.setConcurrency(3); // 3 threads para processar mensagens em paralelo
+        factory.setBatchListener(batchProperties.isEnabled());
         return factory;
     }
 }
@@ -0,0 +1,59 @@
+package com.ecommerce.order.query.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "near-cache")
+public class NearCacheProperties {
+
+    // Desligado: só o RedisCacheManager, sem L1 em memória
+    private boolean enabled = true;
+
+    // Canal pub/sub das invalidações entre instâncias
+    private String invalidationChannel = "order-query:cache-invalidation";
+
+    private Spec defaults = new Spec(10_000L, Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+    // Por nome de cache; campos ausentes usam defaults
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec spec(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new Spec(
+                spec.getMaximumSize() != null ? spec.getMaximumSize() : defaults.getMaximumSize(),
+                spec.getLocalTtl() != null ? spec.getLocalTtl() : defaults.getLocalTtl(),
+                spec.getRedisTtl() != null ? spec.getRedisTtl() : defaults.getRedisTtl());
+    }
+
+    @Data
+    public static class Spec {
+
+        // Entradas no L1 (em memória, por instância)
+        private Long maximumSize;
+
+        // Tempo máximo no L1; rede de segurança caso uma invalidação se perca
+        private Duration localTtl;
+
+        // TTL no Redis (L2)
+        private Duration redisTtl;
+
+        public Spec() {
+        }
+
+        public Spec(Long maximumSize, Duration localTtl, Duration redisTtl) {
+            this.maximumSize = maximumSize;
+            this.localTtl = localTtl;
+            this.redisTtl = redisTtl;
+        }
+    }
+}
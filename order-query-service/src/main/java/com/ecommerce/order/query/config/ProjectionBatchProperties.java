@@ -0,0 +1,30 @@
+package com.ecommerce.order.query.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "projection.batch")
+public class ProjectionBatchProperties {
+
+    // Listener em lote (OrderEventBatchConsumer) no lugar do listener registro a registro
+    private boolean enabled = false;
+
+    // max.poll.records: limite do lote entregue ao listener
+    private int maxPollRecords = 500;
+
+    // fetch.min.bytes / fetch.max.wait.ms: quanto o broker espera para juntar um lote maior
+    private DataSize fetchMinBytes = DataSize.ofBytes(1);
+    private Duration fetchMaxWait = Duration.ofMillis(500);
+
+    // max.partition.fetch.bytes
+    private DataSize maxPartitionFetchBytes = DataSize.ofMegabytes(1);
+
+    // Linhas por INSERT multi-row (8 parâmetros por linha; o PostgreSQL aceita até 32767 por statement)
+    private int insertChunkSize = 1000;
+}
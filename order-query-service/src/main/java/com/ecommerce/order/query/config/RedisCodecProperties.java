@@ -0,0 +1,18 @@
+package com.ecommerce.order.query.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "redis-cache.codec")
+public class RedisCodecProperties {
+
+    // compact (Smile com byte de versão e LZ4 opcional) | json (Jackson2JsonRedisSerializer tipado)
+    private String format = "compact";
+
+    // Valores compactos a partir deste tamanho são comprimidos com LZ4; 0 desliga a compressão
+    private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+}
@@ -1,24 +1,37 @@
 package com.ecommerce.order.query.config;
 
+import com.ecommerce.order.query.cache.CompactRedisSerializer;
+import com.ecommerce.order.query.cache.TwoLevelCacheManager;
+import com.ecommerce.order.query.dto.CachedOrderPage;
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.ecommerce.order.query.service.OrderQueryCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
+import java.math.BigDecimal;
+import java.util.Map;
 
 @Configuration
-public class RedisConfig implements CachingConfigurer {
+public class RedisConfig {
 
     @Bean
     public ObjectMapper redisObjectMapper() {
@@ -45,30 +58,90 @@ public class RedisConfig implements CachingConfigurer {
         return template;
     }
 
+    // Único CacheManager da aplicação; com spring.cache.type=simple (perfil test) o Boot cria um em memória
     @Bean
-    @Override
-    public CacheManager cacheManager() {
-        return null; // Will be overridden by the method below
-    }
-
-    @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis", matchIfMissing = true)
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                          ObjectMapper redisObjectMapper,
+                                          NearCacheProperties nearCacheProperties,
+                                          RedisCodecProperties codecProperties,
+                                          StringRedisTemplate stringRedisTemplate,
+                                          MeterRegistry meterRegistry) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofMinutes(10))
+            .entryTtl(nearCacheProperties.getDefaults().getRedisTtl())
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer(redisObjectMapper())
+                    new GenericJackson2JsonRedisSerializer(redisObjectMapper)
                 )
             )
             .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(config)
-            .transactionAware()
-            .build();
+        // Tipo fixo por cache: sem nomes de classe no valor (o mapper não usa default typing)
+        Map<String, Class<?>> valueTypes = Map.of(
+            OrderQueryCache.ORDERS, OrderProjection.class,
+            OrderQueryCache.ORDERS_BY_CUSTOMER, CachedOrderPage.class,
+            OrderQueryCache.ORDERS_BY_STATUS, CachedOrderPage.class,
+            OrderQueryCache.CUSTOMER_TOTAL_SPENT, BigDecimal.class,
+            OrderQueryCache.NAMESPACES, Long.class);
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(config);
+        valueTypes.forEach((name, type) -> builder.withCacheConfiguration(name,
+            typed(config, valueSerializer(codecProperties, redisObjectMapper, type))
+                .computePrefixWith(keyPrefix(codecProperties))
+                .entryTtl(nearCacheProperties.spec(name).getRedisTtl())));
+
+        if (!nearCacheProperties.isEnabled()) {
+            return builder.transactionAware().build();
+        }
+
+        // O L2 não é transacional por conta própria: o TwoLevelCacheManager adia os dois níveis juntos
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            redisCacheManager, nearCacheProperties, stringRedisTemplate, meterRegistry);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
-}
 
+    // Recebe as invalidações do L1 publicadas pelas outras instâncias
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager,
+                                                                            NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        }
+        return container;
+    }
+
+    private static RedisCacheConfiguration typed(RedisCacheConfiguration config, RedisSerializer<?> serializer) {
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+
+    // Codec e versão no prefixo (nome::v1c::chave): instâncias antigas, que gravam em nome::chave, e os
+    // formatos compact e json nunca leem as chaves umas das outras durante o deploy ou na troca de formato
+    private static CacheKeyPrefix keyPrefix(RedisCodecProperties codecProperties) {
+        String codec = "compact".equals(codecProperties.getFormat())
+            ? "v" + CompactRedisSerializer.VERSION + "c"
+            : "v1j";
+        return cacheName -> cacheName + CacheKeyPrefix.SEPARATOR + codec + CacheKeyPrefix.SEPARATOR;
+    }
+
+    private static RedisSerializer<?> valueSerializer(RedisCodecProperties codecProperties,
+                                                      ObjectMapper mapper, Class<?> type) {
+        return switch (codecProperties.getFormat()) {
+            case "compact" -> new CompactRedisSerializer<>(type,
+                (int) codecProperties.getCompressionThreshold().toBytes());
+            case "json" -> new Jackson2JsonRedisSerializer<>(mapper, type);
+            default -> throw new IllegalArgumentException(
+                "Unknown redis-cache.codec.format: " + codecProperties.getFormat() + " (expected compact or json)");
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.order.query.consumer;
+
+import com.ecommerce.order.query.service.OrderProjectionService;
+import com.ecommerce.shared.events.OrderCancelledEvent;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener em lote: cada poll vira um INSERT multi-row por bloco numa transação e um único ack.
+ * Se o lote falha por um erro do próprio registro (violação de integridade, payload que não serializa),
+ * ele é dividido ao meio recursivamente até isolar os registros com problema, que são registrados e
+ * descartados (o restante do lote é gravado). Qualquer outra falha (banco fora do ar, timeout, falha ao
+ * abrir a transação) não é bisseccionada: a exceção sobe sem ack e o container reentrega o lote inteiro.
+ *
+ * Cancelamentos do lote são aplicados depois dos OrderCreated, na ordem recebida: o cancelamento de um
+ * pedido criado no mesmo lote encontra a projeção já inserida.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "projection.batch", name = "enabled", havingValue = "true")
+public class OrderEventBatchConsumer {
+
+    private final OrderProjectionService projectionService;
+    private final Counter projected;
+    private final Counter skipped;
+
+    public OrderEventBatchConsumer(OrderProjectionService projectionService, MeterRegistry meterRegistry) {
+        this.projectionService = projectionService;
+        this.projected = meterRegistry.counter("projection.batch.events", "result", "projected");
+        this.skipped = meterRegistry.counter("projection.batch.events", "result", "skipped");
+    }
+
+    @KafkaListener(
+        topics = "${kafka.topics.order-events:order-events}",
+        groupId = "${spring.kafka.consumer.group-id}",
+        containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeOrderEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        List<OrderCreatedEvent> events = new ArrayList<>(records.size());
+        List<OrderCancelledEvent> cancellations = new ArrayList<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            // ErrorHandlingDeserializer entrega null quando o payload não pôde ser lido
+            if (record.value() instanceof OrderCreatedEvent created) {
+                events.add(created);
+            } else if (record.value() instanceof OrderCancelledEvent cancelled) {
+                cancellations.add(cancelled);
+            } else {
+                log.error("Skipping undeserializable record at {}-{}@{}", record.topic(), record.partition(), record.offset());
+                skipped.increment();
+            }
+        }
+
+        project(events);
+        if (!cancellations.isEmpty()) {
+            projectionService.handleOrderCancelledEvents(cancellations);
+            projected.increment(cancellations.size());
+        }
+        acknowledgment.acknowledge();
+        log.debug("Processed and acknowledged batch of {} records", records.size());
+    }
+
+    private void project(List<OrderCreatedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            projectionService.handleOrderCreatedEvents(events);
+            projected.increment(events.size());
+        } catch (DataIntegrityViolationException | IllegalArgumentException e) {
+            if (events.size() == 1) {
+                // Em produção, considerar Dead Letter Queue para estes eventos
+                log.error("Skipping OrderCreatedEvent for orderId: {} that failed in isolation",
+                        events.get(0).getOrderId(), e);
+                skipped.increment();
+                return;
+            }
+            int middle = events.size() / 2;
+            log.warn("Batch of {} events failed ({}), bisecting", events.size(), e.getMessage());
+            project(events.subList(0, middle));
+            project(events.subList(middle, events.size()));
+        }
+    }
+}
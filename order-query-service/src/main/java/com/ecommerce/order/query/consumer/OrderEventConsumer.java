@@ -1,9 +1,11 @@
 package com.ecommerce.order.query.consumer;
 
 import com.ecommerce.order.query.service.OrderProjectionService;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "projection.batch", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class OrderEventConsumer {
 
     private final OrderProjectionService projectionService;
@@ -24,23 +27,30 @@ public class OrderEventConsumer {
         containerFactory = "kafkaListenerContainerFactory"
     )
     public void consumeOrderEvent(
-            @Payload OrderCreatedEvent event,
+            @Payload Object event,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment) {
         
         try {
-            log.info("Received OrderCreatedEvent from topic: {}, partition: {}, offset: {}, orderId: {}",
-                    topic, partition, offset, event.getOrderId());
+            log.info("Received {} from topic: {}, partition: {}, offset: {}",
+                    event.getClass().getSimpleName(), topic, partition, offset);
 
-            projectionService.handleOrderCreatedEvent(event);
+            // O deserializer escolhe a classe pelo header eventType
+            if (event instanceof OrderCreatedEvent created) {
+                projectionService.handleOrderCreatedEvent(created);
+            } else if (event instanceof OrderCancelledEvent cancelled) {
+                projectionService.handleOrderCancelledEvent(cancelled);
+            } else {
+                log.warn("Ignoring unsupported event type {} at offset {}", event.getClass().getName(), offset);
+            }
             
             acknowledgment.acknowledge();
-            log.debug("Successfully processed and acknowledged event for orderId: {}", event.getOrderId());
+            log.debug("Successfully processed and acknowledged event at offset: {}", offset);
             
         } catch (Exception e) {
-            log.error("Error processing OrderCreatedEvent for orderId: {}", event.getOrderId(), e);
+            log.error("Error processing {} at offset: {}", event.getClass().getSimpleName(), offset, e);
             // Não fazer acknowledge em caso de erro - mensagem será reprocessada
             // Em produção, considerar Dead Letter Queue após N tentativas
         }
@@ -1,6 +1,7 @@
 package com.ecommerce.order.query.controller;
 
 import com.ecommerce.order.query.dto.OrderQueryResponse;
+import com.ecommerce.order.query.mapper.OrderProjectionMapper;
 import com.ecommerce.order.query.projection.OrderProjection;
 import com.ecommerce.order.query.service.OrderProjectionService;
 import com.ecommerce.shared.response.ApiResponse;
@@ -36,7 +37,7 @@ public class OrderQueryController {
 
         return projectionService.findById(orderId)
                 .map(projection -> ResponseEntity.ok(
-                        ApiResponse.success("Order retrieved successfully", toResponse(projection))
+                        ApiResponse.success("Order retrieved successfully", OrderProjectionMapper.toResponse(projection))
                 ))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.error("Order not found", HttpStatus.NOT_FOUND)));
@@ -56,7 +57,7 @@ public class OrderQueryController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
         Page<OrderProjection> orders = projectionService.findByCustomerId(customerId, pageable);
-        Page<OrderQueryResponse> response = orders.map(this::toResponse);
+        Page<OrderQueryResponse> response = orders.map(OrderProjectionMapper::toResponse);
 
         return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", response));
     }
@@ -71,7 +72,7 @@ public class OrderQueryController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<OrderProjection> orders = projectionService.findByStatus(status, pageable);
-        Page<OrderQueryResponse> response = orders.map(this::toResponse);
+        Page<OrderQueryResponse> response = orders.map(OrderProjectionMapper::toResponse);
 
         return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", response));
     }
@@ -99,7 +100,7 @@ public class OrderQueryController {
                     .body(ApiResponse.error("At least one search parameter is required", HttpStatus.BAD_REQUEST));
         }
 
-        Page<OrderQueryResponse> response = orders.map(this::toResponse);
+        Page<OrderQueryResponse> response = orders.map(OrderProjectionMapper::toResponse);
         return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", response));
     }
 
@@ -112,7 +113,7 @@ public class OrderQueryController {
 
         List<OrderProjection> orders = projectionService.findOrdersByDateRange(startDate, endDate);
         List<OrderQueryResponse> response = orders.stream()
-                .map(this::toResponse)
+                .map(OrderProjectionMapper::toResponse)
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", response));
@@ -133,27 +134,4 @@ public class OrderQueryController {
 
         return ResponseEntity.ok(ApiResponse.success("Customer stats retrieved successfully", stats));
     }
-
-    private OrderQueryResponse toResponse(OrderProjection projection) {
-        List<OrderQueryResponse.OrderItemResponse> items = projection.getItems().stream()
-                .map(item -> OrderQueryResponse.OrderItemResponse.builder()
-                        .productId(item.getProductId())
-                        .productName(item.getProductName())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .subtotal(item.getSubtotal())
-                        .build())
-                .collect(Collectors.toList());
-
-        return OrderQueryResponse.builder()
-                .orderId(projection.getOrderId())
-                .customerId(projection.getCustomerId())
-                .items(items)
-                .totalAmount(projection.getTotalAmount())
-                .status(projection.getStatus())
-                .createdAt(projection.getCreatedAt())
-                .updatedAt(projection.getUpdatedAt())
-                .build();
-    }
 }
-
@@ -0,0 +1,24 @@
+package com.ecommerce.order.query.dto;
+
+import com.ecommerce.order.query.projection.OrderProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Página de projeções como vai para o cache (PageImpl não é desserializável pelo Jackson).
+ * A ordenação não é guardada: faz parte da chave e volta do Pageable da consulta.
+ */
+public record CachedOrderPage(List<OrderProjection> content, long totalElements) {
+
+    public static CachedOrderPage of(Page<OrderProjection> page) {
+        return new CachedOrderPage(new ArrayList<>(page.getContent()), page.getTotalElements());
+    }
+
+    public Page<OrderProjection> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.order.query.mapper;
+
+import com.ecommerce.order.query.dto.OrderQueryResponse;
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Conversões evento -> projeção -> resposta usadas pelo consumer e pela API (e pelos benchmarks)
+public class OrderProjectionMapper {
+
+    private OrderProjectionMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static List<OrderProjection.OrderItemProjection> toItemProjections(List<OrderCreatedEvent.OrderItem> items) {
+        List<OrderProjection.OrderItemProjection> projections = new ArrayList<>(items.size());
+        for (OrderCreatedEvent.OrderItem item : items) {
+            projections.add(OrderProjection.OrderItemProjection.builder()
+                    .productId(item.getProductId())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity())
+                    .unitPrice(item.getUnitPrice())
+                    .subtotal(item.getSubtotal())
+                    .build());
+        }
+        return projections;
+    }
+
+    public static OrderQueryResponse toResponse(OrderProjection projection) {
+        List<OrderProjection.OrderItemProjection> items = projection.getItems();
+        List<OrderQueryResponse.OrderItemResponse> responses = new ArrayList<>(items.size());
+        for (OrderProjection.OrderItemProjection item : items) {
+            responses.add(OrderQueryResponse.OrderItemResponse.builder()
+                    .productId(item.getProductId())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity())
+                    .unitPrice(item.getUnitPrice())
+                    .subtotal(item.getSubtotal())
+                    .build());
+        }
+
+        return OrderQueryResponse.builder()
+                .orderId(projection.getOrderId())
+                .customerId(projection.getCustomerId())
+                .items(responses)
+                .totalAmount(projection.getTotalAmount())
+                .status(projection.getStatus())
+                .createdAt(projection.getCreatedAt())
+                .updatedAt(projection.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecommerce.order.query.repository;
+
+import com.ecommerce.order.query.projection.OrderProjection;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gravação em lote de order_projection sem o contexto de persistência: um INSERT multi-row por bloco,
+ * com ON CONFLICT DO NOTHING (a PK é a única restrição única). Sem o SELECT que o save() faz antes de cada id atribuído, e um OrderCreated
+ * repetido não sobrescreve a projeção já existente (que pode ter sido atualizada depois).
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderProjectionBatchRepository {
+
+    private static final String INSERT =
+            "INSERT INTO order_projection (order_id, customer_id, items, total_amount, status, created_at, updated_at, version) VALUES ";
+    private static final String ROW = "(?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?)";
+    private static final String ON_CONFLICT = " ON CONFLICT DO NOTHING";
+
+    private static final ObjectMapper ITEMS_MAPPER = new ObjectMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Retorna quantas projeções foram de fato inseridas (as já existentes são ignoradas)
+    public int insertIfAbsent(List<OrderProjection> projections, int chunkSize) {
+        int inserted = 0;
+        for (int from = 0; from < projections.size(); from += chunkSize) {
+            inserted += insertChunk(projections.subList(from, Math.min(projections.size(), from + chunkSize)));
+        }
+        return inserted;
+    }
+
+    private int insertChunk(List<OrderProjection> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + chunk.size() * (ROW.length() + 2) + ON_CONFLICT.length())
+                .append(INSERT);
+        List<Object> args = new ArrayList<>(chunk.size() * 8);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            OrderProjection projection = chunk.get(i);
+            args.add(projection.getOrderId());
+            args.add(projection.getCustomerId());
+            args.add(itemsJson(projection));
+            args.add(projection.getTotalAmount());
+            args.add(projection.getStatus());
+            args.add(Timestamp.from(projection.getCreatedAt()));
+            args.add(Timestamp.from(projection.getUpdatedAt()));
+            args.add(projection.getVersion());
+        }
+        return jdbcTemplate.update(sql.append(ON_CONFLICT).toString(), args.toArray());
+    }
+
+    private static String itemsJson(OrderProjection projection) {
+        try {
+            return ITEMS_MAPPER.writeValueAsString(projection.getItems());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize items of order " + projection.getOrderId(), e);
+        }
+    }
+}
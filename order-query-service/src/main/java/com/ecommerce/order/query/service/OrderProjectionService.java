@@ -1,11 +1,14 @@
 package com.ecommerce.order.query.service;
 
+import com.ecommerce.order.query.config.ProjectionBatchProperties;
+import com.ecommerce.order.query.mapper.OrderProjectionMapper;
 import com.ecommerce.order.query.projection.OrderProjection;
+import com.ecommerce.order.query.repository.OrderProjectionBatchRepository;
 import com.ecommerce.order.query.repository.OrderProjectionRepository;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,10 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,55 +30,115 @@ import java.util.stream.Collectors;
 public class OrderProjectionService {
 
     private final OrderProjectionRepository repository;
+    private final OrderProjectionBatchRepository batchRepository;
+    private final OrderQueryCache cache;
+    private final ProjectionBatchProperties batchProperties;
 
     @Transactional
-    @CacheEvict(value = {"orders", "ordersByCustomer"}, allEntries = true)
     public void handleOrderCreatedEvent(OrderCreatedEvent event) {
         log.info("Processing OrderCreatedEvent for orderId: {}", event.getOrderId());
 
-        List<OrderProjection.OrderItemProjection> items = event.getItems().stream()
-                .map(item -> OrderProjection.OrderItemProjection.builder()
-                        .productId(item.getProductId())
-                        .productName(item.getProductName())
-                        .quantity(item.getQuantity())
-                        .unitPrice(item.getUnitPrice())
-                        .subtotal(item.getSubtotal())
-                        .build())
-                .collect(Collectors.toList());
-
-        OrderProjection projection = OrderProjection.builder()
+        // Entrega at-least-once: um OrderCreated repetido não pode sobrescrever a projeção já atualizada
+        if (repository.existsById(event.getOrderId())) {
+            log.info("OrderProjection for orderId {} already exists, ignoring duplicate event", event.getOrderId());
+            return;
+        }
+
+        OrderProjection projection = toProjection(event);
+        repository.save(projection);
+        // Só o pedido, o total do cliente e as páginas do cliente e do status afetados
+        cache.invalidate(projection.getOrderId(), projection.getCustomerId(), projection.getStatus());
+
+        log.info("OrderProjection created for orderId: {} with {} items and total: {}",
+                event.getOrderId(), projection.getItems().size(), event.getTotalAmount());
+    }
+
+    /**
+     * Lote de OrderCreated numa transação: INSERT multi-row com ON CONFLICT DO NOTHING, de modo que
+     * eventos repetidos (no lote ou já projetados) são ignorados como no caminho registro a registro.
+     */
+    @Transactional
+    public int handleOrderCreatedEvents(List<OrderCreatedEvent> events) {
+        Map<UUID, OrderProjection> projections = new LinkedHashMap<>(events.size() * 2);
+        for (OrderCreatedEvent event : events) {
+            projections.putIfAbsent(event.getOrderId(), toProjection(event));
+        }
+
+        List<OrderProjection> batch = new ArrayList<>(projections.values());
+        int inserted = batchRepository.insertIfAbsent(batch, batchProperties.getInsertChunkSize());
+        cache.invalidate(batch);
+
+        log.debug("Projected batch of {} OrderCreatedEvents: {} inserted, {} duplicates ignored",
+                events.size(), inserted, events.size() - inserted);
+        return inserted;
+    }
+
+    @Transactional
+    public void handleOrderCancelledEvent(OrderCancelledEvent event) {
+        log.info("Processing OrderCancelledEvent for orderId: {}", event.getOrderId());
+
+        Optional<OrderProjection> existing = repository.findById(event.getOrderId());
+        if (existing.isEmpty()) {
+            log.warn("No OrderProjection for orderId {}, ignoring OrderCancelledEvent", event.getOrderId());
+            return;
+        }
+
+        OrderProjection projection = existing.get();
+        // Reentrega (ou evento mais antigo que a projeção): nada a aplicar
+        if ("CANCELLED".equals(projection.getStatus())
+                || (event.getVersion() != null && event.getVersion() <= projection.getVersion())) {
+            log.info("OrderProjection for orderId {} already at v{}, ignoring OrderCancelledEvent",
+                    event.getOrderId(), projection.getVersion());
+            return;
+        }
+
+        String previousStatus = projection.getStatus();
+        projection.setStatus("CANCELLED");
+        projection.setUpdatedAt(event.getTimestamp());
+        if (event.getVersion() != null) {
+            projection.setVersion(event.getVersion());
+        }
+        repository.save(projection);
+        // O pedido sai das páginas do status anterior e entra nas de CANCELLED
+        cache.invalidate(projection.getOrderId(), projection.getCustomerId(), previousStatus, "CANCELLED");
+
+        log.info("OrderProjection for orderId {} cancelled: {}", event.getOrderId(), event.getReason());
+    }
+
+    // Cancelamentos de um lote numa transação, na ordem recebida
+    @Transactional
+    public void handleOrderCancelledEvents(List<OrderCancelledEvent> events) {
+        events.forEach(this::handleOrderCancelledEvent);
+    }
+
+    private static OrderProjection toProjection(OrderCreatedEvent event) {
+        return OrderProjection.builder()
                 .orderId(event.getOrderId())
                 .customerId(event.getCustomerId())
-                .items(items)
+                .items(OrderProjectionMapper.toItemProjections(event.getItems()))
                 .totalAmount(event.getTotalAmount())
                 .status("PENDING")
                 .createdAt(event.getTimestamp())
                 .updatedAt(event.getTimestamp())
                 .version(event.getVersion())
                 .build();
-
-        repository.save(projection);
-        
-        log.info("OrderProjection created for orderId: {} with {} items and total: {}",
-                event.getOrderId(), items.size(), event.getTotalAmount());
     }
 
-    @Cacheable(value = "orders", key = "#orderId")
+    // Pedido inexistente não vai para o cache (o Redis não guarda nulos)
+    @Cacheable(value = OrderQueryCache.ORDERS, key = "#orderId", unless = "#result == null")
     public Optional<OrderProjection> findById(UUID orderId) {
         log.debug("Finding order by ID: {}", orderId);
         return repository.findById(orderId);
     }
 
-    @Cacheable(value = "ordersByCustomer", key = "#customerId + '-' + #pageable.pageNumber")
     public Page<OrderProjection> findByCustomerId(String customerId, Pageable pageable) {
         log.debug("Finding orders for customer: {}", customerId);
-        return repository.findByCustomerId(customerId, pageable);
+        return cache.customerPage(customerId, pageable, () -> repository.findByCustomerId(customerId, pageable));
     }
 
-    @Cacheable(value = "ordersByStatus", key = "#status + '-' + #pageable.pageNumber")
     public Page<OrderProjection> findByStatus(String status, Pageable pageable) {
         log.debug("Finding orders by status: {}", status);
-        return repository.findByStatus(status, pageable);
+        return cache.statusPage(status, pageable, () -> repository.findByStatus(status, pageable));
     }
 
     public Page<OrderProjection> findByCustomerIdAndStatus(String customerId, String status, Pageable pageable) {
@@ -91,7 +156,7 @@ public class OrderProjectionService {
         return repository.countByCustomerId(customerId);
     }
 
-    @Cacheable(value = "customerTotalSpent", key = "#customerId")
+    @Cacheable(value = OrderQueryCache.CUSTOMER_TOTAL_SPENT, key = "#customerId")
     public BigDecimal getTotalSpentByCustomer(String customerId) {
         log.debug("Getting total spent for customer: {}", customerId);
         BigDecimal total = repository.getTotalSpentByCustomer(customerId);
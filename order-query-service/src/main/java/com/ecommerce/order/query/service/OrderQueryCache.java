@@ -0,0 +1,118 @@
+package com.ecommerce.order.query.service;
+
+import com.ecommerce.order.query.dto.CachedOrderPage;
+import com.ecommerce.order.query.projection.OrderProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Invalidação pontual dos caches de leitura. orders e customerTotalSpent são chaveados por id e
+ * removidos diretamente; as páginas por cliente e por status ficam sob um namespace versionado
+ * (versão em orderCacheNamespaces) e são invalidadas trocando a versão, sem varrer chaves no Redis.
+ * Páginas da versão antiga ficam inalcançáveis e saem pelo TTL.
+ */
+@Slf4j
+@Component
+public class OrderQueryCache {
+
+    public static final String ORDERS = "orders";
+    public static final String ORDERS_BY_CUSTOMER = "ordersByCustomer";
+    public static final String ORDERS_BY_STATUS = "ordersByStatus";
+    public static final String CUSTOMER_TOTAL_SPENT = "customerTotalSpent";
+    public static final String NAMESPACES = "orderCacheNamespaces";
+
+    private final Cache orders;
+    private final Cache ordersByCustomer;
+    private final Cache ordersByStatus;
+    private final Cache customerTotalSpent;
+    private final Cache namespaces;
+
+    public OrderQueryCache(CacheManager cacheManager) {
+        this.orders = cacheManager.getCache(ORDERS);
+        this.ordersByCustomer = cacheManager.getCache(ORDERS_BY_CUSTOMER);
+        this.ordersByStatus = cacheManager.getCache(ORDERS_BY_STATUS);
+        this.customerTotalSpent = cacheManager.getCache(CUSTOMER_TOTAL_SPENT);
+        this.namespaces = cacheManager.getCache(NAMESPACES);
+    }
+
+    public Page<OrderProjection> customerPage(String customerId, Pageable pageable, Supplier<Page<OrderProjection>> loader) {
+        return page(ordersByCustomer, "customer:" + customerId, pageable, loader);
+    }
+
+    public Page<OrderProjection> statusPage(String status, Pageable pageable, Supplier<Page<OrderProjection>> loader) {
+        return page(ordersByStatus, "status:" + status, pageable, loader);
+    }
+
+    /**
+     * Chamado dentro da transação da projeção: com o cache manager transacional as remoções só
+     * acontecem depois do commit, então nenhuma leitura repovoa o cache com o estado anterior.
+     */
+    public void invalidate(UUID orderId, String customerId, String... statuses) {
+        orders.evict(orderId);
+        customerTotalSpent.evict(customerId);
+        namespaces.put("customer:" + customerId, newVersion());
+        for (String status : statuses) {
+            namespaces.put("status:" + status, newVersion());
+        }
+        log.debug("Cache invalidated for order {} (customer {}, statuses {})", orderId, customerId, statuses);
+    }
+
+    // Lote: cada cliente e status afetado ganha uma única versão nova
+    public void invalidate(Collection<OrderProjection> projections) {
+        Set<String> customers = new HashSet<>();
+        Set<String> statuses = new HashSet<>();
+        for (OrderProjection projection : projections) {
+            orders.evict(projection.getOrderId());
+            customers.add(projection.getCustomerId());
+            statuses.add(projection.getStatus());
+        }
+        for (String customerId : customers) {
+            customerTotalSpent.evict(customerId);
+            namespaces.put("customer:" + customerId, newVersion());
+        }
+        for (String status : statuses) {
+            namespaces.put("status:" + status, newVersion());
+        }
+    }
+
+    private Page<OrderProjection> page(Cache cache, String namespace, Pageable pageable,
+                                       Supplier<Page<OrderProjection>> loader) {
+        String key = namespace + ":" + version(namespace) + ":"
+                + pageable.getPageNumber() + "-" + pageable.getPageSize() + "-" + pageable.getSort();
+
+        CachedOrderPage cached = cache.get(key, CachedOrderPage.class);
+        if (cached != null) {
+            return cached.toPage(pageable);
+        }
+
+        Page<OrderProjection> page = loader.get();
+        cache.put(key, CachedOrderPage.of(page));
+        return page;
+    }
+
+    // Versão ausente (nunca criada ou expirada): cria uma nova; as páginas anteriores já estão órfãs
+    private long version(String namespace) {
+        Long version = namespaces.get(namespace, Long.class);
+        if (version != null) {
+            return version;
+        }
+        long created = newVersion();
+        Cache.ValueWrapper existing = namespaces.putIfAbsent(namespace, created);
+        return existing != null && existing.get() != null ? (Long) existing.get() : created;
+    }
+
+    private static long newVersion() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}
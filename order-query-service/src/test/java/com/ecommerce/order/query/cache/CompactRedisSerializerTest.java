@@ -0,0 +1,65 @@
+package com.ecommerce.order.query.cache;
+
+import com.ecommerce.order.query.dto.CachedOrderPage;
+import com.ecommerce.order.query.projection.OrderProjection;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    @Test
+    void shouldRoundTripCompressedPage() {
+        CompactRedisSerializer<CachedOrderPage> serializer = new CompactRedisSerializer<>(CachedOrderPage.class, 1024);
+        CachedOrderPage page = page(50);
+
+        byte[] bytes = serializer.serialize(page);
+        CachedOrderPage decoded = serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.VERSION);
+        assertThat(bytes[1]).isEqualTo((byte) 1); // LZ4
+        assertThat(decoded).isEqualTo(page);
+    }
+
+    @Test
+    void shouldTreatValuesInOtherFormatsAsMissing() {
+        CompactRedisSerializer<OrderProjection> serializer = new CompactRedisSerializer<>(OrderProjection.class, 0);
+        byte[] legacyJson = "{\"orderId\":\"7f2c\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] futureVersion = serializer.serialize(page(1).content().get(0));
+        futureVersion[0] = CompactRedisSerializer.VERSION + 1;
+
+        assertThat(serializer.deserialize(legacyJson)).isNull();
+        assertThat(serializer.deserialize(futureVersion)).isNull();
+    }
+
+    private static CachedOrderPage page(int orders) {
+        List<OrderProjection> content = new ArrayList<>();
+        Instant now = Instant.parse("2024-03-07T10:15:30.123456Z");
+        for (int i = 0; i < orders; i++) {
+            content.add(OrderProjection.builder()
+                    .orderId(UUID.randomUUID())
+                    .customerId("CUST-123")
+                    .items(List.of(OrderProjection.OrderItemProjection.builder()
+                            .productId("PROD-" + i)
+                            .productName("Laptop")
+                            .quantity(2)
+                            .unitPrice(new BigDecimal("1499.99"))
+                            .subtotal(new BigDecimal("2999.98"))
+                            .build()))
+                    .totalAmount(new BigDecimal("2999.98"))
+                    .status("PENDING")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(1)
+                    .build());
+        }
+        return new CachedOrderPage(content, 120);
+    }
+}
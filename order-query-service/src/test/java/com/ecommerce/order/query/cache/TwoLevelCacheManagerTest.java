@@ -0,0 +1,88 @@
+package com.ecommerce.order.query.cache;
+
+import com.ecommerce.order.query.config.NearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheManagerTest {
+
+    private final ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("orders");
+    private final List<TwoLevelCacheManager> instances = new ArrayList<>();
+    private MeterRegistry meterRegistry;
+    private TwoLevelCacheManager first;
+    private TwoLevelCacheManager second;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Pub/sub simulado: cada mensagem publicada chega a todas as instâncias, inclusive a de origem
+        StringRedisTemplate pubSub = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            byte[] body = invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8);
+            instances.forEach(instance -> instance.onMessage(new DefaultMessage(new byte[0], body), null));
+            return 1L;
+        }).when(pubSub).convertAndSend(anyString(), anyString());
+
+        first = instance(pubSub);
+        second = instance(pubSub);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromL1() {
+        UUID orderId = UUID.randomUUID();
+        redis.getCache("orders").put(orderId, "order");
+        Cache cache = first.getCache("orders");
+
+        assertThat(cache.get(orderId, String.class)).isEqualTo("order");
+        assertThat(cache.get(orderId, String.class)).isEqualTo("order");
+
+        assertThat(gets("l1", "hit")).isEqualTo(1);
+        assertThat(gets("l1", "miss")).isEqualTo(1);
+        assertThat(gets("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDropStaleL1EntriesOnOtherInstances() {
+        UUID orderId = UUID.randomUUID();
+        first.getCache("orders").put(orderId, "v1");
+        assertThat(second.getCache("orders").get(orderId, String.class)).isEqualTo("v1");
+
+        first.getCache("orders").put(orderId, "v2");
+        assertThat(second.getCache("orders").get(orderId, String.class)).isEqualTo("v2");
+
+        first.getCache("orders").evict(orderId);
+        assertThat(second.getCache("orders").get(orderId)).isNull();
+        // A instância de origem mantém o valor que acabou de gravar
+        first.getCache("orders").put(orderId, "v3");
+        assertThat(((com.github.benmanes.caffeine.cache.Cache<String, Object>) first.getCache("orders").getNativeCache())
+                .getIfPresent(orderId.toString())).isEqualTo("v3");
+    }
+
+    private TwoLevelCacheManager instance(StringRedisTemplate pubSub) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redis, new NearCacheProperties(), pubSub, meterRegistry);
+        manager.afterPropertiesSet();
+        instances.add(manager);
+        return manager;
+    }
+
+    private double gets(String level, String result) {
+        return meterRegistry.get("cache.level.gets").tag("level", level).tag("result", result).counter().count();
+    }
+}
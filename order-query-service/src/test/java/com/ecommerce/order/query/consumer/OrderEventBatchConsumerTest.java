@@ -0,0 +1,123 @@
+package com.ecommerce.order.query.consumer;
+
+import com.ecommerce.order.query.service.OrderProjectionService;
+import com.ecommerce.shared.events.OrderCancelledEvent;
+import com.ecommerce.shared.events.OrderCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderEventBatchConsumerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    @Test
+    void shouldBisectBatchAndSkipOnlyTheFailingRecord() {
+        List<OrderCreatedEvent> events = events(8);
+        OrderCreatedEvent poison = events.get(5);
+        List<OrderCreatedEvent> projected = new ArrayList<>();
+        OrderProjectionService service = mock(OrderProjectionService.class);
+        when(service.handleOrderCreatedEvents(anyList())).thenAnswer(invocation -> {
+            List<OrderCreatedEvent> batch = invocation.getArgument(0);
+            if (batch.contains(poison)) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            projected.addAll(batch);
+            return batch.size();
+        });
+
+        new OrderEventBatchConsumer(service, meterRegistry).consumeOrderEvents(records(events), acknowledgment);
+
+        assertThat(projected).hasSize(7).doesNotContain(poison);
+        assertThat(count("projected")).isEqualTo(7);
+        assertThat(count("skipped")).isEqualTo(1);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void shouldNotAcknowledgeBatchOnTransientFailure() {
+        OrderProjectionService service = mock(OrderProjectionService.class);
+        when(service.handleOrderCreatedEvents(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        OrderEventBatchConsumer consumer = new OrderEventBatchConsumer(service, meterRegistry);
+
+        assertThatThrownBy(() -> consumer.consumeOrderEvents(records(events(4)), acknowledgment))
+                .isInstanceOf(QueryTimeoutException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void shouldNotAcknowledgeBatchWhenTheDatabaseIsUnavailable() {
+        OrderProjectionService service = mock(OrderProjectionService.class);
+        when(service.handleOrderCreatedEvents(anyList()))
+                .thenThrow(new CannotCreateTransactionException("Could not open JDBC Connection"));
+        OrderEventBatchConsumer consumer = new OrderEventBatchConsumer(service, meterRegistry);
+
+        // Sem bissecção: nenhum evento é descartado e o lote inteiro é reentregue
+        assertThatThrownBy(() -> consumer.consumeOrderEvents(records(events(4)), acknowledgment))
+                .isInstanceOf(CannotCreateTransactionException.class);
+        verify(service, times(1)).handleOrderCreatedEvents(anyList());
+        verify(acknowledgment, never()).acknowledge();
+        assertThat(count("skipped")).isZero();
+    }
+
+    @Test
+    void shouldApplyCancellationsAfterCreationsOfTheBatch() {
+        OrderCreatedEvent created = events(1).get(0);
+        OrderCancelledEvent cancelled = OrderCancelledEvent.builder().orderId(created.getOrderId()).version(2).build();
+        OrderProjectionService service = mock(OrderProjectionService.class);
+        List<Object> applied = new ArrayList<>();
+        when(service.handleOrderCreatedEvents(anyList())).thenAnswer(invocation -> {
+            applied.addAll(invocation.getArgument(0));
+            return 1;
+        });
+        doAnswer(invocation -> applied.addAll(invocation.getArgument(0)))
+                .when(service).handleOrderCancelledEvents(anyList());
+
+        new OrderEventBatchConsumer(service, meterRegistry)
+                .consumeOrderEvents(records(List.of(created, cancelled)), acknowledgment);
+
+        assertThat(applied).containsExactly(created, cancelled);
+        assertThat(count("projected")).isEqualTo(2);
+        verify(acknowledgment).acknowledge();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("projection.batch.events").tag("result", result).counter().count();
+    }
+
+    private static List<OrderCreatedEvent> events(int count) {
+        List<OrderCreatedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(OrderCreatedEvent.builder().orderId(UUID.randomUUID()).customerId("CUST-123").build());
+        }
+        return events;
+    }
+
+    private static List<ConsumerRecord<String, Object>> records(List<?> events) {
+        List<ConsumerRecord<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            records.add(new ConsumerRecord<>("order-events", 0, i, String.valueOf(i), events.get(i)));
+        }
+        return records;
+    }
+}
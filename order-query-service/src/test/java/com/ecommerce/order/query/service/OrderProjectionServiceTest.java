@@ -2,11 +2,14 @@ package com.ecommerce.order.query.service;
 
 import com.ecommerce.order.query.projection.OrderProjection;
 import com.ecommerce.order.query.repository.OrderProjectionRepository;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,6 +56,69 @@ class OrderProjectionServiceTest {
         assertThat(projection.getItems()).hasSize(2);
     }
 
+    @Test
+    void shouldIgnoreDuplicateOrderCreatedEvent() {
+        // Arrange
+        OrderCreatedEvent event = createOrderCreatedEvent();
+        projectionService.handleOrderCreatedEvent(event);
+        OrderProjection projection = repository.findById(event.getOrderId()).orElseThrow();
+        projection.setStatus("CANCELLED");
+        repository.save(projection);
+
+        // Act
+        projectionService.handleOrderCreatedEvent(event);
+
+        // Assert
+        assertThat(repository.findAll()).hasSize(1);
+        assertThat(repository.findById(event.getOrderId()).orElseThrow().getStatus()).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void shouldMoveProjectionToCancelledOnce() {
+        // Arrange
+        OrderCreatedEvent created = createOrderCreatedEvent();
+        projectionService.handleOrderCreatedEvent(created);
+        OrderCancelledEvent cancelled = OrderCancelledEvent.builder()
+                .orderId(created.getOrderId())
+                .correlationId(created.getCorrelationId())
+                .reason("Customer request")
+                .timestamp(Instant.now())
+                .version(2)
+                .build();
+
+        // Act - reentrega incluída
+        projectionService.handleOrderCancelledEvent(cancelled);
+        projectionService.handleOrderCancelledEvent(cancelled);
+
+        // Assert
+        OrderProjection projection = repository.findById(created.getOrderId()).orElseThrow();
+        assertThat(projection.getStatus()).isEqualTo("CANCELLED");
+        assertThat(projection.getVersion()).isEqualTo(2);
+        assertThat(projection.getUpdatedAt()).isEqualTo(cancelled.getTimestamp());
+    }
+
+    @Test
+    void shouldInsertBatchIgnoringDuplicates() {
+        // Arrange
+        OrderCreatedEvent existing = createOrderCreatedEvent();
+        projectionService.handleOrderCreatedEvent(existing);
+        repository.flush(); // o INSERT em lote vai direto por JDBC
+        OrderCreatedEvent first = createOrderCreatedEvent();
+        OrderCreatedEvent second = createOrderCreatedEvent();
+
+        // Act - duplicado dentro do lote e um pedido já projetado
+        int inserted = projectionService.handleOrderCreatedEvents(List.of(first, existing, second, first));
+
+        // Assert
+        assertThat(inserted).isEqualTo(2);
+        assertThat(repository.findAll()).hasSize(3);
+        OrderProjection projection = repository.findById(second.getOrderId()).orElseThrow();
+        assertThat(projection.getStatus()).isEqualTo("PENDING");
+        assertThat(projection.getTotalAmount()).isEqualByComparingTo(second.getTotalAmount());
+        assertThat(projection.getItems()).extracting(OrderProjection.OrderItemProjection::getProductId)
+                .containsExactly("PROD-001", "PROD-002");
+    }
+
     @Test
     void shouldFindOrderByIdWithCache() {
         // Arrange
@@ -80,6 +146,35 @@ class OrderProjectionServiceTest {
         assertThat(totalSpent).isNotNull();
     }
 
+    @Test
+    void shouldInvalidateOnlyTheAffectedCustomerAndStatusPages() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        createAndProcessMultipleOrders("CUST-A", 1);
+        createAndProcessMultipleOrders("CUST-B", 1);
+        assertThat(projectionService.findByCustomerId("CUST-A", pageable).getTotalElements()).isEqualTo(1);
+        assertThat(projectionService.findByCustomerId("CUST-B", pageable).getTotalElements()).isEqualTo(1);
+        assertThat(projectionService.findByStatus("PENDING", pageable).getTotalElements()).isEqualTo(2);
+
+        // Act - gravação direta (sem invalidação) em B e um evento para A
+        repository.save(OrderProjection.builder()
+                .orderId(UUID.randomUUID())
+                .customerId("CUST-B")
+                .items(List.of())
+                .totalAmount(new BigDecimal("10.00"))
+                .status("CONFIRMED")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .version(1)
+                .build());
+        createAndProcessMultipleOrders("CUST-A", 1);
+
+        // Assert - A e PENDING relidos; B continua vindo do cache
+        assertThat(projectionService.findByCustomerId("CUST-A", pageable).getTotalElements()).isEqualTo(2);
+        assertThat(projectionService.findByStatus("PENDING", pageable).getTotalElements()).isEqualTo(3);
+        assertThat(projectionService.findByCustomerId("CUST-B", pageable).getTotalElements()).isEqualTo(1);
+    }
+
     private OrderCreatedEvent createOrderCreatedEvent() {
         return OrderCreatedEvent.builder()
                 .orderId(UUID.randomUUID())
@@ -1,6 +1,8 @@
 package com.ecommerce.saga.config;
 
+import com.ecommerce.shared.codec.EventCodecDeserializer;
 import com.ecommerce.shared.events.InventoryReservedEvent;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import com.ecommerce.shared.events.PaymentProcessedEvent;
 import com.ecommerce.shared.events.ShippingScheduledEvent;
@@ -16,7 +18,6 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
@@ -52,6 +53,10 @@ public class KafkaConfig {
 
     // Consumer Factories
     private <T> ConsumerFactory<String, T> createConsumerFactory(Class<T> targetType) {
+        return new DefaultKafkaConsumerFactory<>(consumerConfig(targetType));
+    }
+
+    private Map<String, Object> consumerConfig(Class<?> targetType) {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
@@ -59,12 +64,10 @@ public class KafkaConfig {
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        
-        return new DefaultKafkaConsumerFactory<>(config);
+        // O codec (JSON, Smile, CBOR, Avro) é escolhido pelo header eventCodec de cada mensagem
+        config.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventCodecDeserializer.class.getName());
+        config.put(EventCodecDeserializer.VALUE_TYPE, targetType.getName());
+        return config;
     }
 
     private <T> ConcurrentKafkaListenerContainerFactory<String, T> createListenerFactory(
@@ -76,10 +79,15 @@ public class KafkaConfig {
         return factory;
     }
 
+    // order-events carrega mais de um tipo: a classe vem do header eventType (sem header = OrderCreated)
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> 
+    public ConcurrentKafkaListenerContainerFactory<String, Object> 
             orderEventKafkaListenerContainerFactory() {
-        return createListenerFactory(createConsumerFactory(OrderCreatedEvent.class));
+        Map<String, Object> config = consumerConfig(OrderCreatedEvent.class);
+        config.put(EventCodecDeserializer.TYPE_MAPPINGS,
+                "OrderCreated:" + OrderCreatedEvent.class.getName()
+                        + ",OrderCancelled:" + OrderCancelledEvent.class.getName());
+        return createListenerFactory(new DefaultKafkaConsumerFactory<>(config));
     }
 
     @Bean
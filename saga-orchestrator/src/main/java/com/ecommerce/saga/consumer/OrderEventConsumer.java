@@ -1,6 +1,7 @@
 package com.ecommerce.saga.consumer;
 
 import com.ecommerce.saga.service.OrderSagaOrchestrator;
+import com.ecommerce.shared.events.OrderCancelledEvent;
 import com.ecommerce.shared.events.OrderCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,23 +24,34 @@ public class OrderEventConsumer {
         groupId = "${spring.kafka.consumer.group-id}",
         containerFactory = "orderEventKafkaListenerContainerFactory"
     )
-    public void consumeOrderCreatedEvent(
-            @Payload OrderCreatedEvent event,
+    public void consumeOrderEvent(
+            @Payload Object event,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment) {
-        
+
+        // Só OrderCreated inicia saga; cancelamentos no mesmo tópico não viram um novo pedido
+        if (!(event instanceof OrderCreatedEvent created)) {
+            if (event instanceof OrderCancelledEvent cancelled) {
+                log.info("Ignoring OrderCancelledEvent for orderId: {} at offset: {}", cancelled.getOrderId(), offset);
+            } else {
+                log.warn("Ignoring unsupported event type {} at offset: {}", event.getClass().getName(), offset);
+            }
+            acknowledgment.acknowledge();
+            return;
+        }
+
         try {
             log.info("Received OrderCreatedEvent from topic: {}, offset: {}, orderId: {}",
-                    topic, offset, event.getOrderId());
+                    topic, offset, created.getOrderId());
 
-            orchestrator.startSaga(event);
+            orchestrator.startSaga(created);
             
             acknowledgment.acknowledge();
-            log.debug("Successfully processed OrderCreatedEvent for orderId: {}", event.getOrderId());
+            log.debug("Successfully processed OrderCreatedEvent for orderId: {}", created.getOrderId());
             
         } catch (Exception e) {
-            log.error("Error processing OrderCreatedEvent for orderId: {}", event.getOrderId(), e);
+            log.error("Error processing OrderCreatedEvent for orderId: {}", created.getOrderId(), e);
             // Não fazer acknowledge - mensagem será reprocessada
         }
     }
@@ -30,6 +30,13 @@ public class OrderSagaOrchestrator {
 
     @Transactional
     public void startSaga(OrderCreatedEvent event) {
+        // OrderCreated pode chegar duplicado (publicação direta + relay); a saga só começa uma vez
+        if (sagaRepository.findByCorrelationId(event.getCorrelationId()).isPresent()) {
+            log.info("Saga for correlationId {} already started, ignoring duplicate OrderCreatedEvent",
+                    event.getCorrelationId());
+            return;
+        }
+
         log.info("Starting Order Saga for orderId: {} with correlationId: {}", 
                 event.getOrderId(), event.getCorrelationId());
 
@@ -65,6 +65,20 @@ class OrderSagaOrchestratorTest {
         verify(kafkaTemplate, times(1)).send(eq("payment-commands"), any(), any());
     }
 
+    @Test
+    void shouldIgnoreDuplicateOrderCreatedEvent() {
+        // Arrange
+        OrderCreatedEvent event = createOrderCreatedEvent();
+        orchestrator.startSaga(event);
+
+        // Act
+        orchestrator.startSaga(event);
+
+        // Assert
+        assertThat(sagaRepository.findAll()).hasSize(1);
+        verify(kafkaTemplate, times(1)).send(eq("payment-commands"), any(), any());
+    }
+
     @Test
     void shouldHandlePaymentSuccessAndProceedToInventory() {
         // Arrange
@@ -0,0 +1,67 @@
+package com.ecommerce.shared.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Avro binário com schema derivado da classe do evento (sem Schema Registry).
+ *
+ * O schema não viaja com o payload: produtor e consumidor precisam da mesma versão
+ * da classe do evento. Datas são gravadas como string ISO-8601 para não perder precisão.
+ */
+public class AvroEventCodec implements EventCodec {
+
+    public static final String ID = "avro";
+
+    private final AvroMapper mapper;
+    private final Map<Class<?>, AvroSchema> schemas = new ConcurrentHashMap<>();
+
+    public AvroEventCodec() {
+        this.mapper = AvroMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return mapper.writer(schemaFor(event.getClass())).writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new EventCodecException("Failed to encode " + event.getClass().getSimpleName() + " with " + ID, e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        try {
+            return mapper.readerFor(type).with(schemaFor(type)).readValue(data);
+        } catch (IOException e) {
+            throw new EventCodecException("Failed to decode " + type.getSimpleName() + " with " + ID, e);
+        }
+    }
+
+    private AvroSchema schemaFor(Class<?> type) {
+        return schemas.computeIfAbsent(type, key -> {
+            try {
+                return mapper.schemaFor(key);
+            } catch (JsonMappingException e) {
+                throw new EventCodecException("Failed to generate Avro schema for " + key.getSimpleName(), e);
+            }
+        });
+    }
+}
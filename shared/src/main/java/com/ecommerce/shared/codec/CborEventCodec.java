@@ -0,0 +1,20 @@
+package com.ecommerce.shared.codec;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+/**
+ * CBOR (RFC 8949): binário auto-descritivo, sem schema.
+ */
+public class CborEventCodec extends JacksonEventCodec {
+
+    public static final String ID = "cbor";
+
+    public CborEventCodec() {
+        super(new CBORMapper());
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.shared.codec;
+
+/**
+ * SPI de serialização do payload dos eventos (Event Store, Outbox e Kafka).
+ *
+ * O id do codec é gravado junto de cada evento (coluna codec / header eventCodec),
+ * então históricos com codecs diferentes continuam decodificáveis.
+ * Novas implementações são registradas via META-INF/services.
+ */
+public interface EventCodec {
+
+    String id();
+
+    byte[] encode(Object event);
+
+    <T> T decode(byte[] data, Class<T> type);
+
+    // Codecs textuais (JSON) continuam podendo ser gravados em colunas TEXT
+    default boolean isBinary() {
+        return true;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.shared.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deserializer Kafka que escolhe o codec pelo header eventCodec da mensagem.
+ * Mensagens sem o header são tratadas como JSON (formato anterior).
+ *
+ * Configuração: event.codec.value.type = classe do evento esperado no tópico.
+ * Em tópicos com mais de um tipo de evento, event.codec.type.mappings ("OrderCreated:classe,...")
+ * escolhe a classe pelo header eventType; mensagens sem o header usam event.codec.value.type.
+ */
+public class EventCodecDeserializer<T> implements Deserializer<T> {
+
+    public static final String VALUE_TYPE = "event.codec.value.type";
+    public static final String TYPE_MAPPINGS = "event.codec.type.mappings";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    private Class<T> targetType;
+    private final Map<String, Class<?>> typeMappings = new HashMap<>();
+
+    public EventCodecDeserializer() {
+    }
+
+    public EventCodecDeserializer(Class<T> targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object mappings = configs.get(TYPE_MAPPINGS);
+        if (mappings != null) {
+            for (String mapping : String.valueOf(mappings).split(",")) {
+                String[] parts = mapping.trim().split(":");
+                if (parts.length != 2) {
+                    throw new SerializationException("Invalid entry in " + TYPE_MAPPINGS + ": " + mapping);
+                }
+                typeMappings.put(parts[0].trim(), loadClass(parts[1].trim(), TYPE_MAPPINGS));
+            }
+        }
+        if (targetType != null) {
+            return;
+        }
+        Object type = configs.get(VALUE_TYPE);
+        targetType = type instanceof Class<?> clazz ? (Class<T>) clazz : (Class<T>) loadClass(String.valueOf(type), VALUE_TYPE);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return decode(EventCodecs.json(), targetType, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        String codecId = header(headers, EventCodecs.HEADER);
+        EventCodec codec = codecId != null ? EventCodecs.forId(codecId) : EventCodecs.json();
+        return decode(codec, typeOf(header(headers, EVENT_TYPE_HEADER)), data);
+    }
+
+    // Tipo desconhecido falha na deserialização: o ErrorHandlingDeserializer entrega o registro como erro,
+    // em vez de lê-lo com a classe de outro evento
+    private Class<?> typeOf(String eventType) {
+        if (eventType == null || typeMappings.isEmpty()) {
+            return targetType;
+        }
+        Class<?> type = typeMappings.get(eventType);
+        if (type == null) {
+            throw new SerializationException("No type mapped for event type " + eventType + " in " + TYPE_MAPPINGS);
+        }
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(EventCodec codec, Class<?> type, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return (T) codec.decode(data, type);
+        } catch (EventCodecException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+    }
+
+    private static String header(Headers headers, String name) {
+        Header header = headers != null ? headers.lastHeader(name) : null;
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private Class<?> loadClass(String name, String property) {
+        try {
+            return Class.forName(name, true, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("Unknown event type configured in " + property + ": " + name, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.shared.codec;
+
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.shared.codec;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registro dos codecs disponíveis (ServiceLoader), indexados pelo id.
+ */
+public final class EventCodecs {
+
+    // Header Kafka com o id do codec do payload; ausente = JSON
+    public static final String HEADER = "eventCodec";
+
+    private static final Map<String, EventCodec> CODECS = load();
+
+    private EventCodecs() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static EventCodec forId(String id) {
+        if (id == null || id.isBlank()) {
+            return CODECS.get(JsonEventCodec.ID);
+        }
+        EventCodec codec = CODECS.get(id);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event codec: " + id + " (available: " + CODECS.keySet() + ")");
+        }
+        return codec;
+    }
+
+    public static EventCodec json() {
+        return CODECS.get(JsonEventCodec.ID);
+    }
+
+    private static Map<String, EventCodec> load() {
+        Map<String, EventCodec> codecs = new HashMap<>();
+        for (EventCodec codec : ServiceLoader.load(EventCodec.class, EventCodecs.class.getClassLoader())) {
+            codecs.put(codec.id(), codec);
+        }
+        codecs.putIfAbsent(JsonEventCodec.ID, new JsonEventCodec());
+        return Collections.unmodifiableMap(codecs);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.shared.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+
+/**
+ * Base para os codecs Jackson cujo formato não exige schema (JSON, Smile, CBOR).
+ */
+abstract class JacksonEventCodec implements EventCodec {
+
+    private final ObjectMapper mapper;
+
+    protected JacksonEventCodec(ObjectMapper mapper) {
+        this.mapper = mapper
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return mapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new EventCodecException("Failed to encode " + event.getClass().getSimpleName() + " with " + id(), e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        try {
+            return mapper.readValue(data, type);
+        } catch (IOException e) {
+            throw new EventCodecException("Failed to decode " + type.getSimpleName() + " with " + id(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.shared.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Formato original: JSON UTF-8 com datas ISO-8601.
+ */
+public class JsonEventCodec extends JacksonEventCodec {
+
+    public static final String ID = "json";
+
+    public JsonEventCodec() {
+        super(new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public boolean isBinary() {
+        return false;
+    }
+}
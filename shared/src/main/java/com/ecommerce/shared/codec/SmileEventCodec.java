@@ -0,0 +1,20 @@
+package com.ecommerce.shared.codec;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * JSON binário (Smile): mesmo modelo de dados, nomes de campo e strings repetidas compartilhados.
+ */
+public class SmileEventCodec extends JacksonEventCodec {
+
+    public static final String ID = "smile";
+
+    public SmileEventCodec() {
+        super(new SmileMapper());
+    }
+
+    @Override
+    public String id() {
+        return ID;
+    }
+}
@@ -41,7 +41,8 @@ public abstract class AggregateRoot {
     public void loadFromHistory(List<DomainEvent> history) {
         for (DomainEvent event : history) {
             apply(event);
-            version++;
+            // A versão do evento é a fonte da verdade (permite carregar a partir de um snapshot)
+            version = event.getVersion() != null ? event.getVersion() : version + 1;
         }
     }
 
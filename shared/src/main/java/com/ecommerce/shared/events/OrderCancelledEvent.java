@@ -17,5 +17,8 @@ public class OrderCancelledEvent {
     private UUID orderId;
     private String reason;
     private Instant timestamp;
+    // Preenchidos quando o cancelamento vem do Event Store do serviço de comandos
+    private UUID causationId;
+    private Integer version;
 }
 
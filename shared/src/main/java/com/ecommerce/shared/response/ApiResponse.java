@@ -31,6 +31,14 @@ public class ApiResponse {
                 .build();
     }
 
+    public static ApiResponse accepted(String message, Object data) {
+        return ApiResponse.builder()
+                .message(message)
+                .status(HttpStatus.ACCEPTED)
+                .data(data)
+                .build();
+    }
+
     public static ApiResponse error(String message, HttpStatus status) {
         return ApiResponse.builder()
                 .message(message)
@@ -0,0 +1,24 @@
+package com.ecommerce.shared.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado de uma única verificação (assinatura + expiração) de um JWT, com as authorities já montadas.
+ * Compartilhado entre requisições pelo cache do JwtUtil: não alterar claims.
+ */
+public record VerifiedToken(String username, List<SimpleGrantedAuthority> authorities, Instant expiresAt, Claims claims) {
+
+    static VerifiedToken of(Claims claims) {
+        @SuppressWarnings("unchecked")
+        List<String> roles = claims.get("roles", List.class);
+        List<SimpleGrantedAuthority> authorities = roles != null
+                ? roles.stream().map(SimpleGrantedAuthority::new).toList()
+                : List.of();
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new VerifiedToken(claims.getSubject(), authorities, expiresAt, claims);
+    }
+}